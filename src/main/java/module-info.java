@@ -5,11 +5,18 @@ module org.example.snakegame {
     requires javafx.media;
     requires java.logging;
 
+    // Supervision (panneau de performances : mémoire, GC, allocation par thread)
+    requires java.management;
+    requires jdk.management;
+    // Événements Java Flight Recorder
+    requires jdk.jfr;
+
     // Exporter tous nos packages pour JavaFX
     exports org.example.snakegame;
     exports org.example.snakegame.common;
     exports org.example.snakegame.snake;
     exports org.example.snakegame.pong;
+    exports org.example.snakegame.monitoring;
 
     // Permettre à JavaFX d'accéder à nos classes via réflexion
     opens org.example.snakegame to javafx.fxml;
@@ -7,7 +7,9 @@ import javafx.scene.Scene;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import org.example.snakegame.common.AbstractGameController;
 import org.example.snakegame.common.GameLogger;
+import org.example.snakegame.monitoring.ArcadeMBeans;
 
 import java.io.IOException;
 
@@ -42,6 +44,8 @@ public class GameApplication extends Application {
         // Initialiser les gestionnaires
         scoreManager = ScoreManager.INSTANCE;
         musicController = MusicController.INSTANCE;
+        // Supervision JMX (JConsole, VisualVM)
+        ArcadeMBeans.register();
 
         logger.info("🎮 Retro Arcade - Démarrage...");
         logger.info("📺 Résolution écran: %.0fx%.0f, Fenêtre: %dx%d", 
@@ -101,6 +105,12 @@ public class GameApplication extends Application {
         stage.setOnCloseRequest(event -> {
             logger.info("🔄 Fermeture de l'application...");
 
+            // Libérer la partie en cours (boucle, mesures de latence dans le journal)
+            AbstractGameController controller = ArcadeMBeans.gameLoop().getAttachedController();
+            if (controller != null) {
+                controller.dispose();
+            }
+
             // Nettoyer l'audio
             musicController.cleanup();
 
@@ -211,6 +221,12 @@ public class GameApplication extends Application {
             logger.info("🛑 Arrêt d'urgence détecté, sauvegarde des scores...");
             ScoreManager.INSTANCE.forceSave();
 
+            // Mesures de latence de la partie encore ouverte (hors thread JavaFX : pas de dispose)
+            AbstractGameController controller = ArcadeMBeans.gameLoop().getAttachedController();
+            if (controller != null) {
+                controller.logLoopStatistics();
+            }
+
             // Nettoyer l'audio si possible
             try {
                 MusicController.INSTANCE.cleanup();
@@ -5,6 +5,7 @@ import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.HBox;
 import javafx.stage.Stage;
 import org.example.snakegame.snake.SnakeGame;
@@ -13,6 +14,8 @@ import org.example.snakegame.common.GameLogger;
 import org.example.snakegame.common.TitleBarController;
 
 import java.net.URL;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.ResourceBundle;
 
 /**
@@ -24,6 +27,10 @@ public class GameController implements Initializable {
 
     private final GameLogger logger = GameLogger.getLogger(GameController.class);
 
+    // Infobulles du classement
+    private static final int LEADERBOARD_TOOLTIP_SIZE = 5;
+    private static final DateTimeFormatter TOOLTIP_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM HH:mm");
+
     // Références aux éléments FXML du menu
     @FXML private Button snakeButton;
     @FXML private Button pongButton;
@@ -179,16 +186,19 @@ public class GameController implements Initializable {
     }
 
     /**
-     * Charger les high scores depuis le ScoreManager
+     * Charger les high scores depuis le classement et le ScoreManager
      */
     private void loadHighScores() {
-        // Obtenir les scores depuis le gestionnaire global
-        int snakeHigh = scoreManager.getSnakeHighScore();
-        String pongHigh = scoreManager.getPongScore();
+        // Un seul instantané : les deux affichages sont cohérents entre eux
+        ScoreSnapshot scores = scoreManager.getSnapshot();
+        Leaderboard leaderboard = scoreManager.getLeaderboard();
+        int snakeHigh = leaderboard.getBestScore("Snake");
+        String pongHigh = scores.getPongScore();
 
         // Afficher les scores avec des informations détaillées
-        updateSnakeScoreDisplay(snakeHigh);
-        updatePongScoreDisplay(pongHigh);
+        updateSnakeScoreDisplay(snakeHigh, scores.getSnakeGamesPlayed());
+        updatePongScoreDisplay(pongHigh, scores.getPongGamesPlayed());
+        updateLeaderboardTooltips(leaderboard);
 
         logger.debug("Scores chargés - Snake: %d, Pong: %s", snakeHigh, pongHigh);
     }
@@ -196,11 +206,11 @@ public class GameController implements Initializable {
     /**
      * Mettre à jour l'affichage des scores Snake avec dates
      */
-    private void updateSnakeScoreDisplay(int highScore) {
+    private void updateSnakeScoreDisplay(int highScore, int gamesPlayed) {
         if (snakeHighScore != null) {
             // Affichage détaillé avec statistiques et dates
             String snakeText;
-            if (scoreManager.getSnakeGamesPlayed() > 0) {
+            if (gamesPlayed > 0) {
                 snakeText = String.format("%04d", highScore);
             } else {
                 snakeText = String.format("%04d", highScore);
@@ -212,11 +222,11 @@ public class GameController implements Initializable {
     /**
      * Mettre à jour l'affichage des scores Pong avec statistiques
      */
-    private void updatePongScoreDisplay(String score) {
+    private void updatePongScoreDisplay(String score, int gamesPlayed) {
         if (pongHighScore != null) {
             // Affichage détaillé avec statistiques et dates
             String pongText;
-            if (scoreManager.getPongGamesPlayed() > 0) {
+            if (gamesPlayed > 0) {
                 pongText = score;
             } else {
                 pongText = score;
@@ -225,6 +235,33 @@ public class GameController implements Initializable {
         }
     }
 
+    /**
+     * Infobulles des scores : meilleures parties de la semaine et meilleure série
+     */
+    private void updateLeaderboardTooltips(Leaderboard leaderboard) {
+        if (snakeHighScore != null) {
+            snakeHighScore.setTooltip(new Tooltip(describeLeaderboard(leaderboard, "Snake")));
+        }
+        if (pongHighScore != null) {
+            pongHighScore.setTooltip(new Tooltip(describeLeaderboard(leaderboard, "Pong")));
+        }
+    }
+
+    private String describeLeaderboard(Leaderboard leaderboard, String gameName) {
+        StringBuilder text = new StringBuilder("Top ").append(LEADERBOARD_TOOLTIP_SIZE).append(" cette semaine");
+        List<Leaderboard.Entry> week = leaderboard.topThisWeek(gameName, LEADERBOARD_TOOLTIP_SIZE);
+        if (week.isEmpty()) {
+            text.append("\n  aucune partie");
+        }
+        for (int i = 0; i < week.size(); i++) {
+            Leaderboard.Entry entry = week.get(i);
+            text.append(String.format("%n  %d. %04d  %s", i + 1, entry.getScore(),
+                    entry.getTimestamp().format(TOOLTIP_DATE_FORMAT)));
+        }
+        text.append(String.format("%nMeilleure série: %d victoire(s)", leaderboard.getBestStreak(gameName)));
+        return text.toString();
+    }
+
     /**
      * Méthode publique pour rafraîchir les scores (appelée au retour des jeux)
      */
@@ -275,9 +312,10 @@ public class GameController implements Initializable {
      * Méthode pour obtenir des statistiques de session
      */
     public String getSessionStats() {
+        ScoreSnapshot scores = scoreManager.getSnapshot();
         return String.format("Session actuelle - Snake: %d points | Pong: %d victoires",
-                scoreManager.getSnakeCurrentSessionScore(),
-                scoreManager.getPongCurrentSessionWins());
+                scores.getSnakeCurrentSessionScore(),
+                scores.getPongCurrentSessionWins());
     }
 
     /**
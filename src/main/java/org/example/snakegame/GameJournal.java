@@ -0,0 +1,459 @@
+package org.example.snakegame;
+
+import org.example.snakegame.common.GameLogger;
+import org.example.snakegame.common.GameResult;
+import org.example.snakegame.common.ValidationUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Historique de toutes les parties terminées, en ajout seul
+ *
+ * Les parties sont écrites dans des segments de {@value #SEGMENT_SIZE} octets,
+ * pré-alloués et projetés en mémoire : un ajout est une simple copie, sans appel
+ * système. Chaque enregistrement porte un numéro de séquence croissant et un CRC32 ;
+ * la relecture s'arrête au premier enregistrement incomplet (arrêt brutal).
+ *
+ * Format d'un enregistrement : longueur (int), CRC32 (int), puis séquence (long),
+ * date (long, ms epoch), victoire (byte), score (int), statistiques présentes (byte),
+ * durée, combo (int), jeu et informations (short + UTF-8, longueur -1 pour null).
+ * Une longueur nulle marque la fin.
+ *
+ * Les segments pleins sont recopiés en arrière-plan, sans le remplissage, dans une
+ * archive unique puis supprimés. Le segment qui vient d'être rempli peut encore être
+ * projeté (la projection n'est libérée qu'au GC, et Windows refuse alors sa
+ * suppression) : il n'est compacté qu'au changement de segment suivant ou au prochain
+ * démarrage, et une suppression refusée est simplement retentée plus tard. Le fichier
+ * de scores sert de point de reprise : il mémorise la dernière séquence prise en
+ * compte, et seules les parties suivantes sont rejouées au démarrage.
+ */
+public final class GameJournal {
+
+    /**
+     * Visiteur des parties relues dans l'historique
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Appelé pour chaque partie, dans l'ordre des séquences
+         * @param sequence Numéro de séquence de la partie
+         * @param result Résultat relu
+         */
+        void visit(long sequence, GameResult result);
+    }
+
+    /**
+     * Enregistrement brut trouvé lors d'un parcours
+     */
+    @FunctionalInterface
+    private interface RecordSink {
+        void accept(ByteBuffer buffer, int position, int length, long sequence);
+    }
+
+    static final int SEGMENT_SIZE = 64 * 1024;
+    private static final int HEADER_SIZE = 8;        // Longueur + CRC32
+    private static final int MAX_TEXT_LENGTH = 256;  // Caractères gardés par texte
+    private static final String SEGMENT_PREFIX = "history-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String ARCHIVE_FILE_NAME = "history-archive.journal";
+
+    private final GameLogger logger = GameLogger.getLogger(GameJournal.class);
+    private final Path directory;
+    private final ExecutorService compactor;
+    // Fichiers partagés entre relecture et compactage
+    private final Object filesLock = new Object();
+
+    // Segment actif (null si la projection a échoué : historique désactivé)
+    private int activeIndex;
+    private MappedByteBuffer active;
+    // Segment rempli au dernier changement, peut-être encore projeté (-1 : aucun)
+    private int releasingIndex = -1;
+    private long lastSequence;
+
+    // Tampons réutilisés par les ajouts
+    private final ByteBuffer encoder = ByteBuffer.allocate(64 + 8 * MAX_TEXT_LENGTH);
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Ouvrir l'historique (dernier segment repris à la fin de ses enregistrements valides)
+     * @param directory Répertoire de sauvegarde
+     */
+    public GameJournal(Path directory) {
+        this.directory = ValidationUtils.requireNonNull(directory, "directory");
+        this.compactor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "journal-compactor");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        try {
+            List<Integer> segments = segmentIndexes();
+            activeIndex = segments.isEmpty() ? 1 : segments.get(segments.size() - 1);
+            active = map(segmentPath(activeIndex));
+            openActive();
+            if (lastSequence == 0) {
+                lastSequence = lastSequenceBefore(activeIndex, segments);
+            }
+            logger.debug("📜 Historique ouvert: segment %d, séquence %d", activeIndex, lastSequence);
+        } catch (IOException e) {
+            active = null;
+            logger.error("❌ Historique des parties indisponible: %s", e.getMessage());
+        }
+        compactAsync();
+    }
+
+    /**
+     * Ajouter une partie
+     * @return Numéro de séquence attribué, -1 si l'historique est indisponible
+     */
+    public synchronized long append(GameResult result) {
+        ValidationUtils.requireNonNull(result, "result");
+        if (active == null) {
+            return -1;
+        }
+        long sequence = lastSequence + 1;
+        encode(sequence, result);
+        int recordSize = HEADER_SIZE + encoder.remaining();
+        if (active.remaining() < recordSize) {
+            try {
+                roll();
+            } catch (IOException e) {
+                active = null;
+                logger.error("❌ Erreur nouveau segment d'historique: %s", e.getMessage());
+                return -1;
+            }
+        }
+
+        // Contenu, puis CRC, puis longueur : une longueur non nulle suit un contenu complet
+        int start = active.position();
+        crc.reset();
+        crc.update(encoder.duplicate());
+        active.put(start + HEADER_SIZE, encoder, encoder.position(), encoder.remaining());
+        active.putInt(start + 4, (int) crc.getValue());
+        active.putInt(start, encoder.remaining());
+        active.position(start + recordSize);
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Relire les parties postérieures à une séquence (archive si besoin, puis segments)
+     * @param afterSequence Dernière séquence déjà prise en compte
+     * @return Nombre de parties relues
+     */
+    public int replay(long afterSequence, Visitor visitor) {
+        ValidationUtils.requireNonNull(visitor, "visitor");
+        long[] last = {afterSequence};
+        int[] count = {0};
+        RecordSink sink = (buffer, position, length, sequence) -> {
+            if (sequence > last[0]) { // Doublons possibles après un compactage interrompu
+                last[0] = sequence;
+                count[0]++;
+                visitor.visit(sequence, decode(buffer, position, length));
+            }
+        };
+        synchronized (filesLock) {
+            try {
+                List<Integer> segments = segmentIndexes();
+                long oldest = segments.isEmpty() ? -1 : firstSequence(readSegment(segments.get(0)));
+                if (oldest < 0 || oldest > afterSequence + 1) {
+                    Path archive = directory.resolve(ARCHIVE_FILE_NAME);
+                    if (Files.exists(archive)) {
+                        scan(ByteBuffer.wrap(Files.readAllBytes(archive)), sink);
+                    }
+                }
+                for (int index : segments) {
+                    scan(readSegment(index), sink);
+                }
+            } catch (IOException e) {
+                logger.error("❌ Erreur relecture historique: %s", e.getMessage());
+            }
+        }
+        return count[0];
+    }
+
+    /**
+     * Écrire sur disque les ajouts du segment actif
+     */
+    public synchronized void flush() {
+        if (active != null) {
+            active.force();
+        }
+    }
+
+    /**
+     * Compacter les segments pleins en arrière-plan
+     */
+    public void compactAsync() {
+        compactor.execute(this::compact);
+    }
+
+    public synchronized long getLastSequence() { return lastSequence; }
+
+    /**
+     * Reprendre l'écriture après le dernier enregistrement valide du segment actif
+     */
+    private void openActive() {
+        long[] last = {0};
+        int end = scan(active, (buffer, position, length, sequence) -> last[0] = sequence);
+        if (end + HEADER_SIZE <= active.limit() && active.getInt(end) != 0) {
+            // Enregistrement incomplet (arrêt brutal) : effacer la fin du segment
+            for (int i = end; i < active.limit(); i++) {
+                active.put(i, (byte) 0);
+            }
+            logger.warn("⚠️ Fin d'historique incomplète ignorée (segment %d)", activeIndex);
+        }
+        active.position(end);
+        lastSequence = last[0];
+    }
+
+    /**
+     * Dernière séquence écrite avant un segment (segments précédents, puis archive)
+     */
+    private long lastSequenceBefore(int index, List<Integer> segments) throws IOException {
+        long[] last = {0};
+        RecordSink sink = (buffer, position, length, sequence) -> last[0] = Math.max(last[0], sequence);
+        for (int i = segments.size() - 1; i >= 0 && last[0] == 0; i--) {
+            if (segments.get(i) < index) {
+                scan(readSegment(segments.get(i)), sink);
+            }
+        }
+        Path archive = directory.resolve(ARCHIVE_FILE_NAME);
+        if (last[0] == 0 && Files.exists(archive)) {
+            scan(ByteBuffer.wrap(Files.readAllBytes(archive)), sink);
+        }
+        return last[0];
+    }
+
+    /**
+     * Passer au segment suivant (le précédent devient compactable)
+     */
+    private void roll() throws IOException {
+        active.force();
+        active = null; // Projection libérée au GC seulement : suppression reportée
+        releasingIndex = activeIndex;
+        activeIndex++;
+        active = map(segmentPath(activeIndex));
+        logger.debug("📜 Nouveau segment d'historique: %d", activeIndex);
+        compactAsync();
+    }
+
+    /**
+     * Recopier les segments pleins dans l'archive puis les supprimer
+     */
+    private void compact() {
+        synchronized (filesLock) {
+            int activeSnapshot;
+            int releasingSnapshot;
+            synchronized (this) {
+                activeSnapshot = activeIndex;
+                releasingSnapshot = releasingIndex;
+            }
+            try {
+                List<Integer> sealed = new ArrayList<>();
+                for (int index : segmentIndexes()) {
+                    if (index < activeSnapshot && index != releasingSnapshot) {
+                        sealed.add(index);
+                    }
+                }
+                if (sealed.isEmpty()) {
+                    return;
+                }
+
+                Path archive = directory.resolve(ARCHIVE_FILE_NAME);
+                long[] archived = {0};
+                int validEnd = Files.exists(archive)
+                        ? scan(ByteBuffer.wrap(Files.readAllBytes(archive)),
+                               (buffer, position, length, sequence) -> archived[0] = sequence)
+                        : 0;
+
+                try (FileChannel out = FileChannel.open(archive, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                    out.truncate(validEnd); // Fin incomplète d'un compactage interrompu
+                    out.position(validEnd);
+                    List<ByteBuffer> records = new ArrayList<>();
+                    for (int index : sealed) {
+                        records.clear();
+                        scan(readSegment(index), (buffer, position, length, sequence) -> {
+                            if (sequence > archived[0]) { // Déjà archivé si une suppression a échoué
+                                records.add(buffer.slice(position, HEADER_SIZE + length));
+                                archived[0] = sequence;
+                            }
+                        });
+                        for (ByteBuffer record : records) {
+                            while (record.hasRemaining()) {
+                                out.write(record);
+                            }
+                        }
+                    }
+                    out.force(true);
+                }
+
+                int deferred = 0;
+                for (int index : sealed) {
+                    try {
+                        Files.deleteIfExists(segmentPath(index));
+                    } catch (IOException e) {
+                        // Encore projeté (Windows) : déjà archivé, supprimé à un prochain compactage
+                        deferred++;
+                        logger.debug("📜 Suppression du segment %d reportée: %s", index, e.getMessage());
+                    }
+                }
+                logger.info("🗜️ Historique compacté: %d segment(s) archivé(s), %d suppression(s) reportée(s)",
+                        sealed.size(), deferred);
+            } catch (IOException e) {
+                logger.error("❌ Erreur compactage historique: %s", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Parcourir les enregistrements valides d'un tampon
+     * @return Position suivant le dernier enregistrement valide
+     */
+    private int scan(ByteBuffer buffer, RecordSink sink) {
+        CRC32 check = new CRC32();
+        int position = 0;
+        while (buffer.limit() - position >= HEADER_SIZE) {
+            int length = buffer.getInt(position);
+            if (length < Long.BYTES || length > buffer.limit() - position - HEADER_SIZE) {
+                break; // Fin des données (zéros de pré-allocation) ou longueur invalide
+            }
+            check.reset();
+            check.update(buffer.slice(position + HEADER_SIZE, length));
+            if ((int) check.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            sink.accept(buffer, position, length, buffer.getLong(position + HEADER_SIZE));
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    /**
+     * Séquence du premier enregistrement d'un tampon, -1 s'il est vide
+     */
+    private long firstSequence(ByteBuffer buffer) {
+        long[] first = {-1};
+        scan(buffer.slice(0, Math.min(buffer.limit(), HEADER_SIZE + encoder.capacity())),
+             (b, position, length, sequence) -> {
+                 if (first[0] < 0) {
+                     first[0] = sequence;
+                 }
+             });
+        return first[0];
+    }
+
+    private void encode(long sequence, GameResult result) {
+        GameResult.GameStatistics statistics = result.getStatistics();
+        long epochMillis = result.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        encoder.clear();
+        encoder.putLong(sequence);
+        encoder.putLong(epochMillis);
+        encoder.put((byte) (result.isVictory() ? 1 : 0));
+        encoder.putInt(result.getFinalScore());
+        encoder.put((byte) (statistics != null ? 1 : 0));
+        encoder.putInt(statistics != null ? statistics.getDuration() : 0);
+        encoder.putInt(statistics != null ? statistics.getMaxCombo() : 0);
+        putText(result.getGameName());
+        putText(statistics != null ? statistics.getAdditionalInfo() : null);
+        encoder.flip();
+    }
+
+    private void putText(String text) {
+        if (text == null) {
+            encoder.putShort((short) -1);
+            return;
+        }
+        String kept = text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+        byte[] bytes = kept.getBytes(StandardCharsets.UTF_8);
+        encoder.putShort((short) bytes.length);
+        encoder.put(bytes);
+    }
+
+    private static GameResult decode(ByteBuffer buffer, int position, int length) {
+        ByteBuffer payload = buffer.slice(position + HEADER_SIZE, length);
+        payload.getLong(); // Séquence, déjà lue
+        LocalDateTime timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(payload.getLong()), ZoneId.systemDefault());
+        boolean victory = payload.get() != 0;
+        int score = payload.getInt();
+        boolean hasStatistics = payload.get() != 0;
+        int duration = payload.getInt();
+        int maxCombo = payload.getInt();
+        String gameName = getText(payload);
+        String info = getText(payload);
+        GameResult.GameStatistics statistics = hasStatistics
+                ? new GameResult.GameStatistics(duration, maxCombo, info)
+                : null;
+        return new GameResult(gameName, score, victory, timestamp, statistics);
+    }
+
+    private static String getText(ByteBuffer payload) {
+        int length = payload.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static MappedByteBuffer map(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+        }
+    }
+
+    private ByteBuffer readSegment(int index) throws IOException {
+        synchronized (this) {
+            if (index == activeIndex && active != null) {
+                return active.duplicate().flip(); // Jusqu'à la position d'écriture
+            }
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(segmentPath(index)));
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Numéros des segments présents, triés
+     */
+    private List<Integer> segmentIndexes() throws IOException {
+        List<Integer> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                 .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)
+                         && !name.equals(ARCHIVE_FILE_NAME))
+                 .forEach(name -> {
+                     String digits = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                     try {
+                         indexes.add(Integer.parseInt(digits));
+                     } catch (NumberFormatException e) {
+                         // Fichier étranger : ignoré
+                     }
+                 });
+        }
+        Collections.sort(indexes);
+        return indexes;
+    }
+}
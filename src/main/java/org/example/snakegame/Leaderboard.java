@@ -0,0 +1,456 @@
+package org.example.snakegame;
+
+import org.example.snakegame.common.GameLogger;
+import org.example.snakegame.common.GameResult;
+import org.example.snakegame.common.LatencyHistogram;
+import org.example.snakegame.common.ValidationUtils;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Classement des meilleures parties, par jeu
+ *
+ * Pour chaque jeu : les {@value #CAPACITY} meilleures parties de tous les temps et
+ * celles de chacun des {@value #DAILY_RETENTION_DAYS} derniers jours, dans des tas-min
+ * bornés (insertion en O(log N) en fin de partie), plus la série de victoires en cours
+ * et la meilleure série. Une requête sur une période ne parcourt que les jours
+ * concernés ; les jours plus anciens sont oubliés, seul le classement de tous les
+ * temps les garde. La taille de l'index, et donc le coût de son encodage à chaque fin
+ * de partie, restent bornés quelle que soit la longueur de l'historique.
+ *
+ * Le fichier d'index contient, par jeu, le classement de tous les temps puis les
+ * meilleures parties de chaque jour conservé, triées par jour puis par score
+ * décroissant, suivis d'un CRC32C. Comme le fichier de scores, il mémorise la
+ * dernière partie de l'historique prise en compte : un index absent ou illisible est
+ * reconstruit par relecture de l'historique.
+ */
+public final class Leaderboard {
+
+    /** Parties gardées par jeu, pour tous les temps et pour chaque jour */
+    public static final int CAPACITY = 10;
+
+    /** Jours conservés pour les requêtes par période (huit semaines) */
+    public static final int DAILY_RETENTION_DAYS = 56;
+
+    static final int MAGIC = 0x52414C42; // "RALB"
+    static final short VERSION = 2;   // 1 : sans classement de tous les temps
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Short.BYTES + Integer.BYTES;
+    private static final int ENTRY_SIZE = Integer.BYTES + Long.BYTES + Long.BYTES;
+    private static final String INDEX_FILE_NAME = "retro_arcade_leaderboard.idx";
+    private static final String BACKUP_FILE_NAME = "retro_arcade_leaderboard_backup.idx";
+
+    // Du moins bon au meilleur : score, puis la partie la plus ancienne garde son rang
+    private static final Comparator<Entry> WORST_FIRST = Comparator.comparingInt(Entry::getScore)
+            .thenComparing(Comparator.comparingLong(Entry::getSequence).reversed());
+    private static final Comparator<Entry> BEST_FIRST = WORST_FIRST.reversed();
+
+    /**
+     * Partie classée
+     */
+    public static final class Entry {
+        private final int score;
+        private final long epochMillis;
+        private final long sequence;
+
+        private Entry(int score, long epochMillis, long sequence) {
+            this.score = score;
+            this.epochMillis = epochMillis;
+            this.sequence = sequence;
+        }
+
+        public int getScore() { return score; }
+        public long getSequence() { return sequence; }
+
+        public LocalDateTime getTimestamp() {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        }
+
+        private LocalDate getDay() {
+            return getTimestamp().toLocalDate();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Entry[score=%d, date=%s]", score, getTimestamp());
+        }
+    }
+
+    /**
+     * Classement d'un jeu
+     */
+    private static final class Board {
+        private final PriorityQueue<Entry> allTime = new PriorityQueue<>(CAPACITY + 1, WORST_FIRST);
+        private final NavigableMap<LocalDate, PriorityQueue<Entry>> daily = new TreeMap<>();
+        private int currentStreak;
+        private int bestStreak;
+        private long bestStreakMillis; // Dernière victoire de la meilleure série
+
+        private void add(Entry entry) {
+            offer(allTime, entry);
+            addDaily(entry);
+        }
+
+        /**
+         * Classer dans le tas de son jour, s'il fait partie des jours conservés
+         */
+        private void addDaily(Entry entry) {
+            LocalDate oldestKept = LocalDate.now().minusDays(DAILY_RETENTION_DAYS - 1);
+            daily.headMap(oldestKept).clear();
+            LocalDate day = entry.getDay();
+            if (!day.isBefore(oldestKept)) {
+                offer(daily.computeIfAbsent(day, key -> new PriorityQueue<>(CAPACITY + 1, WORST_FIRST)), entry);
+            }
+        }
+    }
+
+    private final GameLogger logger = GameLogger.getLogger(Leaderboard.class);
+    private final Path directory;
+    private final ScorePersister persister;
+    private final Map<String, Board> boards = new HashMap<>();
+    // Dernière partie de l'historique prise en compte
+    private long journalSequence;
+
+    /**
+     * Charger l'index (principal, puis backup ; vide si aucun n'est lisible)
+     * @param directory Répertoire de sauvegarde
+     */
+    public Leaderboard(Path directory) {
+        this.directory = ValidationUtils.requireNonNull(directory, "directory");
+        this.persister = new ScorePersister("classement",
+                directory.resolve(INDEX_FILE_NAME), directory.resolve(BACKUP_FILE_NAME));
+        if (!tryLoad(directory.resolve(INDEX_FILE_NAME)) && !tryLoad(directory.resolve(BACKUP_FILE_NAME))) {
+            logger.info("🏅 Aucun classement lisible, reconstruction depuis l'historique");
+        }
+    }
+
+    /**
+     * Classer une partie terminée (ignorée si déjà prise en compte)
+     * @param sequence Numéro de séquence dans l'historique, -1 si l'historique est indisponible
+     */
+    public synchronized void record(long sequence, GameResult result) {
+        ValidationUtils.requireNonNull(result, "result");
+        if (sequence > 0 && sequence <= journalSequence) {
+            return;
+        }
+        long epochMillis = result.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Board board = boards.computeIfAbsent(result.getGameName(), name -> new Board());
+        board.add(new Entry(result.getFinalScore(), epochMillis, sequence));
+
+        if (result.isVictory()) {
+            board.currentStreak++;
+            if (board.currentStreak > board.bestStreak) {
+                board.bestStreak = board.currentStreak;
+                board.bestStreakMillis = epochMillis;
+            }
+        } else {
+            board.currentStreak = 0;
+        }
+        journalSequence = Math.max(journalSequence, sequence);
+    }
+
+    /**
+     * Reprendre un record antérieur à l'historique (ancien fichier de scores)
+     * Sans effet si le classement contient déjà un score au moins égal.
+     */
+    public synchronized void importHighScore(String gameName, int score, LocalDateTime timestamp) {
+        ValidationUtils.requireNonEmpty(gameName, "gameName");
+        ValidationUtils.requireNonNull(timestamp, "timestamp");
+        if (score <= 0 || score <= getBestScore(gameName)) {
+            return;
+        }
+        long epochMillis = timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        boards.computeIfAbsent(gameName, name -> new Board()).add(new Entry(score, epochMillis, 0));
+        logger.info("🏅 Record %s repris dans le classement: %d", gameName, score);
+        save();
+    }
+
+    /**
+     * Meilleures parties de tous les temps
+     * @param limit Nombre de parties voulues (au plus {@value #CAPACITY})
+     */
+    public synchronized List<Entry> top(String gameName, int limit) {
+        Board board = boards.get(gameName);
+        if (board == null) {
+            return List.of();
+        }
+        return best(board.allTime, limit);
+    }
+
+    /**
+     * Meilleures parties jouées entre deux dates (incluses)
+     * Seuls les {@value #DAILY_RETENTION_DAYS} derniers jours sont couverts.
+     * @param limit Nombre de parties voulues (au plus {@value #CAPACITY})
+     */
+    public synchronized List<Entry> top(String gameName, LocalDate from, LocalDate to, int limit) {
+        ValidationUtils.requireNonNull(from, "from");
+        ValidationUtils.requireNonNull(to, "to");
+        Board board = boards.get(gameName);
+        if (board == null || from.isAfter(to)) {
+            return List.of();
+        }
+        List<Entry> candidates = new ArrayList<>();
+        for (PriorityQueue<Entry> day : board.daily.subMap(from, true, to, true).values()) {
+            candidates.addAll(day);
+        }
+        return best(candidates, limit);
+    }
+
+    /**
+     * Meilleures parties de la semaine en cours (depuis lundi)
+     */
+    public List<Entry> topThisWeek(String gameName, int limit) {
+        LocalDate today = LocalDate.now();
+        return top(gameName, today.with(DayOfWeek.MONDAY), today, limit);
+    }
+
+    /**
+     * Meilleur score de tous les temps, 0 si aucune partie
+     */
+    public synchronized int getBestScore(String gameName) {
+        Board board = boards.get(gameName);
+        if (board == null || board.allTime.isEmpty()) {
+            return 0;
+        }
+        int best = 0;
+        for (Entry entry : board.allTime) {
+            best = Math.max(best, entry.getScore());
+        }
+        return best;
+    }
+
+    public synchronized int getBestStreak(String gameName) {
+        Board board = boards.get(gameName);
+        return board != null ? board.bestStreak : 0;
+    }
+
+    public synchronized int getCurrentStreak(String gameName) {
+        Board board = boards.get(gameName);
+        return board != null ? board.currentStreak : 0;
+    }
+
+    /**
+     * Date de la dernière victoire de la meilleure série, null si aucune
+     */
+    public synchronized LocalDateTime getBestStreakDate(String gameName) {
+        Board board = boards.get(gameName);
+        if (board == null || board.bestStreak == 0) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(board.bestStreakMillis), ZoneId.systemDefault());
+    }
+
+    public synchronized long getJournalSequence() { return journalSequence; }
+
+    /**
+     * Remplacer le point de reprise de l'historique (historique recréé)
+     */
+    public synchronized void resetJournalSequence(long sequence) {
+        journalSequence = sequence;
+    }
+
+    /**
+     * Vider le classement ; les parties jusqu'à la séquence donnée ne seront pas rejouées
+     */
+    public synchronized void clear(long sequence) {
+        boards.clear();
+        journalSequence = sequence;
+        save();
+    }
+
+    /**
+     * Demander l'écriture de l'index (écriture différée)
+     */
+    public synchronized void save() {
+        persister.submit(encode());
+    }
+
+    /**
+     * Écrire immédiatement l'index (arrêt du programme)
+     */
+    public void flush() {
+        save();
+        persister.flush();
+    }
+
+    /**
+     * Sérialiser l'index : jeux, séries, classement de tous les temps, puis parties
+     * triées par jour et score décroissant
+     */
+    private byte[] encode() {
+        int payloadSize = Long.BYTES + Integer.BYTES;
+        Map<String, byte[]> names = new HashMap<>();
+        for (Map.Entry<String, Board> board : boards.entrySet()) {
+            byte[] name = board.getKey().getBytes(StandardCharsets.UTF_8);
+            names.put(board.getKey(), name);
+            payloadSize += Short.BYTES + name.length + 4 * Integer.BYTES + Long.BYTES;
+            payloadSize += board.getValue().allTime.size() * ENTRY_SIZE;
+            for (PriorityQueue<Entry> day : board.getValue().daily.values()) {
+                payloadSize += day.size() * ENTRY_SIZE;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payloadSize + Integer.BYTES);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0); // Réservé
+        buffer.putInt(payloadSize);
+        buffer.putLong(journalSequence);
+        buffer.putInt(boards.size());
+        for (Map.Entry<String, Board> entry : boards.entrySet()) {
+            Board board = entry.getValue();
+            byte[] name = names.get(entry.getKey());
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+            buffer.putInt(board.currentStreak);
+            buffer.putInt(board.bestStreak);
+            buffer.putLong(board.bestStreakMillis);
+
+            buffer.putInt(board.allTime.size());
+            for (Entry ranked : best(board.allTime, CAPACITY)) {
+                putEntry(buffer, ranked);
+            }
+
+            int count = 0;
+            for (PriorityQueue<Entry> day : board.daily.values()) {
+                count += day.size();
+            }
+            buffer.putInt(count);
+            for (PriorityQueue<Entry> day : board.daily.values()) {
+                for (Entry ranked : best(day, CAPACITY)) {
+                    putEntry(buffer, ranked);
+                }
+            }
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Lire un fichier d'index
+     * @return false si le fichier est absent, illisible ou altéré
+     */
+    private boolean tryLoad(Path file) {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try {
+            decode(Files.readAllBytes(file));
+            logger.debug("🏅 Classement chargé: %d jeu(x), séquence %d", boards.size(), journalSequence);
+            return true;
+        } catch (IOException e) {
+            boards.clear();
+            journalSequence = 0;
+            logger.error("❌ Erreur chargement %s: %s", file.getFileName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void decode(byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < HEADER_SIZE + Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("en-tête de classement invalide");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("version de classement inconnue: " + version);
+        }
+        buffer.getShort(); // Réservé
+        int payloadSize = buffer.getInt();
+        if (payloadSize < 0 || bytes.length != HEADER_SIZE + payloadSize + Integer.BYTES) {
+            throw new IOException("classement tronqué");
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, HEADER_SIZE + payloadSize);
+        if ((int) crc.getValue() != buffer.getInt(HEADER_SIZE + payloadSize)) {
+            throw new IOException("CRC du classement invalide");
+        }
+
+        try {
+            buffer.limit(HEADER_SIZE + payloadSize);
+            journalSequence = buffer.getLong();
+            int boardCount = buffer.getInt();
+            for (int i = 0; i < boardCount; i++) {
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                Board board = new Board();
+                board.currentStreak = buffer.getInt();
+                board.bestStreak = buffer.getInt();
+                board.bestStreakMillis = buffer.getLong();
+                int allTimeCount = buffer.getInt();
+                for (int j = 0; j < allTimeCount; j++) {
+                    offer(board.allTime, getEntry(buffer));
+                }
+                int dailyCount = buffer.getInt();
+                for (int j = 0; j < dailyCount; j++) {
+                    board.addDaily(getEntry(buffer)); // Jours trop anciens oubliés
+                }
+                boards.put(new String(name, StandardCharsets.UTF_8), board);
+            }
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IOException("contenu du classement invalide", e);
+        }
+    }
+
+    private static void putEntry(ByteBuffer buffer, Entry entry) {
+        buffer.putInt(entry.score);
+        buffer.putLong(entry.epochMillis);
+        buffer.putLong(entry.sequence);
+    }
+
+    private static Entry getEntry(ByteBuffer buffer) {
+        return new Entry(buffer.getInt(), buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Insérer dans un tas-min borné : la moins bonne partie sort si le tas est plein
+     */
+    private static void offer(PriorityQueue<Entry> heap, Entry entry) {
+        if (heap.size() < CAPACITY) {
+            heap.add(entry);
+        } else if (WORST_FIRST.compare(entry, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    /**
+     * Les meilleures parties d'un ensemble, de la meilleure à la moins bonne
+     */
+    private static List<Entry> best(Iterable<Entry> entries, int limit) {
+        List<Entry> sorted = new ArrayList<>();
+        entries.forEach(sorted::add);
+        sorted.sort(BEST_FIRST);
+        int count = Math.max(0, Math.min(limit, Math.min(CAPACITY, sorted.size())));
+        return List.copyOf(sorted.subList(0, count));
+    }
+
+    public Path getIndexPath() { return directory.resolve(INDEX_FILE_NAME); }
+
+    // Mesures des sauvegardes de l'index (réussies ou non)
+    public LatencyHistogram getSaveHistogram() { return persister.getSaveHistogram(); }
+    public long getSaveFailures() { return persister.getSaveFailures(); }
+    public String getLastSaveError() { return persister.getLastSaveError(); }
+}
@@ -4,10 +4,13 @@ import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.util.Duration;
 import org.example.snakegame.common.GameLogger;
+import org.example.snakegame.monitoring.ArcadeEvents;
+import org.example.snakegame.monitoring.SoundEffectEvent;
 
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Gestionnaire global de la musique et des effets sonores
@@ -39,6 +42,16 @@ public enum MusicController {
     private BackgroundMusic currentMusic = null;
     private boolean isInitialized = false;
 
+    // Compteurs des effets sonores (supervision JMX)
+    private volatile int loadedSoundEffects;
+    private final AtomicLong soundEffectPlays = new AtomicLong();
+    private final AtomicLong soundEffectFailures = new AtomicLong();
+
+    // Effets joués par seconde sur une fenêtre glissante fixe (une case par seconde)
+    private static final int RATE_WINDOW_SECONDS = 10;
+    private final long[] playsPerSecond = new long[RATE_WINDOW_SECONDS];
+    private final long[] playsSecond = new long[RATE_WINDOW_SECONDS];
+
     /**
      * Énumération des musiques d'ambiance
      */
@@ -177,7 +190,11 @@ public enum MusicController {
                     player.setCycleCount(1);
                     player.setVolume(sfxVolume * masterVolume);
 
+                    // Erreurs de lecture signalées par le lecteur
+                    player.setOnError(() -> soundEffectFailures.incrementAndGet());
+
                     soundEffects.put(sfx, player);
+                    loadedSoundEffects = soundEffects.size();
                     logger.debug("🔊 SFX chargé: %s", sfx.getDescription());
                 } else {
                     logger.warn("⚠️ Fichier SFX introuvable: %s", sfx.getFilename());
@@ -283,6 +300,11 @@ public enum MusicController {
             return;
         }
 
+        SoundEffectEvent event = ArcadeEvents.SOUND_EFFECT.isEnabled() ? new SoundEffectEvent() : null;
+        if (event != null) {
+            event.begin();
+            event.effect = effect.name();
+        }
         try {
             MediaPlayer player = soundEffects.get(effect);
             if (player != null) {
@@ -293,13 +315,25 @@ public enum MusicController {
                 // Régler le volume et jouer
                 player.setVolume(sfxVolume * masterVolume);
                 player.play();
+                soundEffectPlays.incrementAndGet();
+                countPlay();
+                if (event != null) {
+                    event.played = true;
+                    event.volume = sfxVolume * masterVolume;
+                }
 
                 logger.debug("🔊 SFX joué: %s", effect.getDescription());
             } else {
+                soundEffectFailures.incrementAndGet();
                 logger.error("❌ Effet sonore non trouvé: %s", effect);
             }
         } catch (Exception e) {
+            soundEffectFailures.incrementAndGet();
             logger.error("❌ Erreur lecture SFX: %s", e.getMessage());
+        } finally {
+            if (event != null) {
+                event.commit();
+            }
         }
     }
 
@@ -414,6 +448,7 @@ public enum MusicController {
 
         backgroundMusics.clear();
         soundEffects.clear();
+        loadedSoundEffects = 0;
         isInitialized = false;
 
         logger.info("✅ MusicController nettoyé");
@@ -460,6 +495,38 @@ public enum MusicController {
     public boolean areSFXEnabled() { return areSFXEnabled; }
     public BackgroundMusic getCurrentMusic() { return currentMusic; }
     public boolean isInitialized() { return isInitialized; }
+    public int getLoadedSoundEffects() { return loadedSoundEffects; }
+    public long getSoundEffectPlays() { return soundEffectPlays.get(); }
+    public long getSoundEffectFailures() { return soundEffectFailures.get(); }
+
+    /**
+     * Compter un effet joué dans la case de la seconde courante
+     */
+    private synchronized void countPlay() {
+        long second = System.nanoTime() / 1_000_000_000L;
+        int slot = (int) Math.floorMod(second, (long) RATE_WINDOW_SECONDS);
+        if (playsSecond[slot] != second) {
+            playsSecond[slot] = second;
+            playsPerSecond[slot] = 0;
+        }
+        playsPerSecond[slot]++;
+    }
+
+    /**
+     * Effets joués par seconde, en moyenne sur les dernières secondes complètes
+     * Sans effet de bord : indépendant du nombre de lecteurs et de leur cadence.
+     */
+    public synchronized double getSoundEffectRate() {
+        long current = System.nanoTime() / 1_000_000_000L;
+        long plays = 0;
+        for (int slot = 0; slot < RATE_WINDOW_SECONDS; slot++) {
+            long age = current - playsSecond[slot];
+            if (age >= 1 && age <= RATE_WINDOW_SECONDS) {
+                plays += playsPerSecond[slot];
+            }
+        }
+        return (double) plays / RATE_WINDOW_SECONDS;
+    }
 
     /**
      * Obtenir un résumé de l'état audio
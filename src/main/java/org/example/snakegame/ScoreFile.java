@@ -0,0 +1,195 @@
+package org.example.snakegame;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Format binaire du fichier de scores
+ *
+ * Disposition : en-tête (magic "RASC", version, longueur du contenu), champs numériques
+ * à position fixe, textes préfixés par leur longueur (short + UTF-8), puis un CRC32C de
+ * tout ce qui précède. Un fichier tronqué ou altéré est refusé en entier au lieu d'être
+ * lu à moitié. Le format texte {@code version=1.0} est encore lu pour la migration.
+ */
+final class ScoreFile {
+
+    static final int MAGIC = 0x52415343; // "RASC"
+    static final short VERSION = 2;      // 1 : ancien format texte
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Short.BYTES + Integer.BYTES;
+    private static final int TRAILER_SIZE = Integer.BYTES;
+    private static final int MAX_TEXT_BYTES = 1024;
+
+    private ScoreFile() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Le contenu commence-t-il par l'en-tête binaire ?
+     */
+    static boolean isBinary(byte[] bytes) {
+        return bytes.length >= Integer.BYTES && ByteBuffer.wrap(bytes).getInt(0) == MAGIC;
+    }
+
+    /**
+     * Encoder un instantané (les scores de session ne sont pas persistés)
+     */
+    static byte[] encode(ScoreSnapshot scores) {
+        byte[][] texts = {
+                text(scores.getLastPlayedGame()), text(scores.getLastSessionDate()),
+                text(scores.getSnakeHighScoreDate()), text(scores.getPongLastWinDate())
+        };
+        int payloadSize = Long.BYTES + 7 * Integer.BYTES;
+        for (byte[] text : texts) {
+            payloadSize += Short.BYTES + text.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payloadSize + TRAILER_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0); // Réservé
+        buffer.putInt(payloadSize);
+
+        // Champs fixes
+        buffer.putLong(scores.getJournalSequence());
+        buffer.putInt(scores.getTotalGamesPlayed());
+        buffer.putInt(scores.getSnakeHighScore());
+        buffer.putInt(scores.getSnakeTotalScore());
+        buffer.putInt(scores.getSnakeGamesPlayed());
+        buffer.putInt(scores.getPongPlayerWins());
+        buffer.putInt(scores.getPongAIWins());
+        buffer.putInt(scores.getPongGamesPlayed());
+
+        // Textes, dans l'ordre de la déclaration
+        for (byte[] text : texts) {
+            buffer.putShort((short) text.length);
+            buffer.put(text);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Lire un fichier binaire
+     * @throws IOException Fichier tronqué, altéré ou de version inconnue
+     */
+    static ScoreSnapshot decode(byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < HEADER_SIZE + TRAILER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("en-tête de fichier de scores invalide");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("version de fichier de scores inconnue: " + version);
+        }
+        buffer.getShort(); // Réservé
+        int payloadSize = buffer.getInt();
+        if (payloadSize < 0 || bytes.length != HEADER_SIZE + payloadSize + TRAILER_SIZE) {
+            throw new IOException("fichier de scores tronqué");
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, HEADER_SIZE + payloadSize);
+        if ((int) crc.getValue() != buffer.getInt(HEADER_SIZE + payloadSize)) {
+            throw new IOException("CRC du fichier de scores invalide");
+        }
+
+        try {
+            long journalSequence = buffer.getLong();
+            int totalGamesPlayed = buffer.getInt();
+            int snakeHighScore = buffer.getInt();
+            int snakeTotalScore = buffer.getInt();
+            int snakeGamesPlayed = buffer.getInt();
+            int pongPlayerWins = buffer.getInt();
+            int pongAIWins = buffer.getInt();
+            int pongGamesPlayed = buffer.getInt();
+
+            buffer.limit(HEADER_SIZE + payloadSize);
+            String lastPlayedGame = readText(buffer);
+            String lastSessionDate = readText(buffer);
+            String snakeHighScoreDate = readText(buffer);
+            String pongLastWinDate = readText(buffer);
+            return new ScoreSnapshot(journalSequence, totalGamesPlayed, lastPlayedGame, lastSessionDate,
+                    snakeHighScore, snakeTotalScore, snakeGamesPlayed, 0, snakeHighScoreDate,
+                    pongPlayerWins, pongAIWins, pongGamesPlayed, 0, pongLastWinDate);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("contenu du fichier de scores invalide", e);
+        }
+    }
+
+    /**
+     * Lire l'ancien format texte {@code clé=valeur} (migration)
+     * @throws IOException Marqueur de version ou champ numérique absent ou illisible
+     */
+    static ScoreSnapshot decodeText(String content) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        for (String rawLine : content.split("\n")) {
+            String line = rawLine.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue; // Commentaires et lignes vides
+            }
+            String[] parts = line.split("=", 2);
+            if (parts.length == 2) {
+                values.put(parts[0].trim(), parts[1].trim());
+            }
+        }
+        if (!values.containsKey("version")) {
+            throw new IOException("fichier de scores texte sans version");
+        }
+        try {
+            return new ScoreSnapshot(
+                    Long.parseLong(values.getOrDefault("journal.sequence", "0")),
+                    textNumber(values, "totalGamesPlayed"),
+                    values.get("lastPlayedGame"),
+                    values.get("lastSessionDate"),
+                    textNumber(values, "snake.highScore"),
+                    textNumber(values, "snake.totalScore"),
+                    textNumber(values, "snake.gamesPlayed"),
+                    0,
+                    values.get("snake.highScoreDate"),
+                    textNumber(values, "pong.playerWins"),
+                    textNumber(values, "pong.aiWins"),
+                    textNumber(values, "pong.gamesPlayed"),
+                    0,
+                    values.get("pong.lastWinDate"));
+        } catch (NumberFormatException e) {
+            throw new IOException("valeur illisible: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Champ numérique obligatoire de l'ancien format
+     */
+    private static int textNumber(Map<String, String> values, String key) throws IOException {
+        String value = values.get(key);
+        if (value == null) {
+            throw new IOException("fichier de scores texte incomplet: " + key + " absent");
+        }
+        return Integer.parseInt(value);
+    }
+
+    private static byte[] text(String value) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_TEXT_BYTES) {
+            throw new IllegalArgumentException("text too long: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private static String readText(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("invalid text length: " + length);
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
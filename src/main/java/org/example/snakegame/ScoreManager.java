@@ -1,16 +1,27 @@
 package org.example.snakegame;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.example.snakegame.common.GameLogger;
+import org.example.snakegame.common.GameResult;
+import org.example.snakegame.common.LatencyHistogram;
+import org.example.snakegame.common.ValidationUtils;
 
 /**
  * Gestionnaire global des scores avec sauvegarde persistante locale
  * Enum Singleton (meilleure pratique Java - thread-safe, protection réflexion/sérialisation)
+ *
+ * Les scores sont publiés sous forme d'instantanés immuables ({@link ScoreSnapshot}) :
+ * une modification construit un nouvel instantané et le publie par compare-and-set,
+ * sans verrou. Le thread JavaFX n'attend jamais le hook d'arrêt, et une sauvegarde
+ * concurrente lit toujours un état complet.
  */
 public enum ScoreManager {
     INSTANCE;
@@ -21,115 +32,209 @@ public enum ScoreManager {
     private static final String SAVE_FILE_NAME = "retro_arcade_scores.dat";
     private static final String BACKUP_FILE_NAME = "retro_arcade_scores_backup.dat";
 
-    // Scores Snake
-    private int snakeHighScore = 0;
-    private int snakeTotalScore = 0;
-    private int snakeGamesPlayed = 0;
-    private int snakeCurrentSessionScore = 0;
-    private String snakeHighScoreDate = "";
-
-    // Scores Pong (format wins-losses)
-    private int pongPlayerWins = 0;
-    private int pongAIWins = 0;
-    private int pongGamesPlayed = 0;
-    private int pongCurrentSessionWins = 0;
-    private String pongLastWinDate = "";
-
-    // Métadonnées
-    private String lastPlayedGame = "";
-    private String lastSessionDate = "";
-    private int totalGamesPlayed = 0;
+    // Instantané courant, remplacé en entier à chaque modification
+    private final AtomicReference<ScoreSnapshot> scores = new AtomicReference<>(ScoreSnapshot.EMPTY);
+
+    // Répertoire de sauvegarde, résolu (et créé) une seule fois
+    private final Path saveDirectory;
+    // Écriture différée sur un thread dédié : jamais d'accès disque pendant une frame
+    private final ScorePersister persister;
+    // Historique de toutes les parties ; les agrégats en sont un point de reprise
+    private final GameJournal journal;
+    // Meilleures parties par jeu (index trié sur disque, reconstruit depuis l'historique)
+    private final Leaderboard leaderboard;
 
     // Constructeur de l'enum (appelé automatiquement une seule fois)
     ScoreManager() {
+        saveDirectory = resolveSaveDirectory();
+        persister = new ScorePersister("scores", saveDirectory.resolve(SAVE_FILE_NAME), saveDirectory.resolve(BACKUP_FILE_NAME));
+        journal = new GameJournal(saveDirectory);
+        leaderboard = new Leaderboard(saveDirectory);
         loadScores(); // Charger les scores au démarrage
+        replayJournal(); // Parties terminées après la dernière sauvegarde
     }
 
-    // === MÉTHODES SNAKE ===
+    // === HISTORIQUE ===
 
     /**
-     * Enregistrer un score Snake
+     * Enregistrer une partie terminée : historique, agrégats, sauvegarde
      */
-    public void recordSnakeScore(int score) {
-        snakeTotalScore += score;
-        snakeCurrentSessionScore += score;
-        snakeGamesPlayed++;
-        totalGamesPlayed++;
-        lastPlayedGame = "Snake";
-
-        if (score > snakeHighScore) {
-            snakeHighScore = score;
-            snakeHighScoreDate = getCurrentDateTime();
-            logger.game("🏆", "NOUVEAU HIGH SCORE SNAKE : %d !", score);
+    public void recordResult(GameResult result) {
+        ValidationUtils.requireNonNull(result, "result");
+        if (!isKnownGame(result.getGameName())) {
+            logger.warn("⚠️ Jeu inconnu ignoré: %s", result.getGameName());
         }
+        long sequence = journal.append(result);
 
-        // Sauvegarder immédiatement
-        saveScores();
+        // Publier le nouvel instantané (recalculé si un autre thread a publié entre-temps)
+        ScoreSnapshot previous;
+        ScoreSnapshot updated;
+        do {
+            previous = scores.get();
+            updated = applyResult(previous, result, true).withJournalSequence(sequence);
+        } while (!scores.compareAndSet(previous, updated));
 
-        logger.info("Score Snake enregistré: %d | Total: %d", score, snakeTotalScore);
+        leaderboard.record(sequence, result);
+        leaderboard.save();
+        logResult(result, previous, updated);
+
+        // Sauvegarder (écriture différée)
+        saveScores();
     }
 
-    public int getSnakeHighScore() { return snakeHighScore; }
-    public int getSnakeTotalScore() { return snakeTotalScore; }
-    public int getSnakeGamesPlayed() { return snakeGamesPlayed; }
-    public int getSnakeCurrentSessionScore() { return snakeCurrentSessionScore; }
-    public String getSnakeHighScoreDate() { return snakeHighScoreDate; }
+    /**
+     * Instantané mis à jour avec une partie (sans effet de bord)
+     * @param live false pendant la relecture de l'historique (scores de session inchangés)
+     */
+    private ScoreSnapshot applyResult(ScoreSnapshot snapshot, GameResult result, boolean live) {
+        String date = formatDateTime(result.getTimestamp());
+        return switch (result.getGameName()) {
+            case "Snake" -> snapshot.withSnakeScore(result.getFinalScore(), date, live);
+            case "Pong" -> snapshot.withPongResult(result.isVictory(), date, live);
+            default -> snapshot;
+        };
+    }
 
-    public int getSnakeAverageScore() {
-        return snakeGamesPlayed > 0 ? (snakeTotalScore / snakeGamesPlayed) : 0;
+    private static boolean isKnownGame(String gameName) {
+        return "Snake".equals(gameName) || "Pong".equals(gameName);
     }
 
-    // === MÉTHODES PONG ===
+    /**
+     * Messages de fin de partie, après publication
+     */
+    private void logResult(GameResult result, ScoreSnapshot previous, ScoreSnapshot updated) {
+        switch (result.getGameName()) {
+            case "Snake" -> {
+                if (result.getFinalScore() > previous.getSnakeHighScore()) {
+                    logger.game("🏆", "NOUVEAU HIGH SCORE SNAKE : %d !", result.getFinalScore());
+                }
+                logger.info("Score Snake enregistré: %d | Total: %d", result.getFinalScore(), updated.getSnakeTotalScore());
+            }
+            case "Pong" -> {
+                if (result.isVictory()) {
+                    logger.game("🏆", "Victoire Pong enregistrée ! Total: %s", updated.getPongScore());
+                } else {
+                    logger.info("Défaite Pong enregistrée ! Total: %s", updated.getPongScore());
+                }
+            }
+            default -> { }
+        }
+    }
 
     /**
-     * Enregistrer une victoire Pong
+     * Rejouer les parties de l'historique absentes du fichier de scores ou du classement
+     * (arrêt brutal, index supprimé). Appelé depuis le constructeur : aucun autre thread
+     * ne publie encore.
      */
-    public void recordPongPlayerWin() {
-        pongPlayerWins++;
-        pongCurrentSessionWins++;
-        pongGamesPlayed++;
-        totalGamesPlayed++;
-        lastPlayedGame = "Pong";
-        pongLastWinDate = getCurrentDateTime();
-
-        // Sauvegarder immédiatement
-        saveScores();
+    private void replayJournal() {
+        long lastSequence = journal.getLastSequence();
+        ScoreSnapshot loaded = scores.get();
+        if (loaded.getJournalSequence() > lastSequence) {
+            // Historique supprimé ou remplacé : reprendre sa numérotation
+            logger.warn("⚠️ Historique plus ancien que le fichier de scores, point de reprise ajusté");
+            loaded = loaded.resetJournalSequence(lastSequence);
+            scores.set(loaded);
+            saveScores();
+        }
+        if (leaderboard.getJournalSequence() > lastSequence) {
+            logger.warn("⚠️ Historique plus ancien que le classement, point de reprise ajusté");
+            leaderboard.resetJournalSequence(lastSequence);
+            leaderboard.save();
+        }
 
-        logger.game("🏆", "Victoire Pong enregistrée ! Total: %d-%d", pongPlayerWins, pongAIWins);
+        long scoresSequence = loaded.getJournalSequence();
+        long leaderboardSequence = leaderboard.getJournalSequence();
+        ScoreSnapshot[] replayedScores = {loaded};
+        int[] replayed = {0};
+        journal.replay(Math.min(scoresSequence, leaderboardSequence), (sequence, result) -> {
+            if (sequence > scoresSequence) {
+                replayedScores[0] = applyResult(replayedScores[0], result, false).withJournalSequence(sequence);
+                replayed[0]++;
+            }
+            leaderboard.record(sequence, result); // Ignorée si déjà classée
+        });
+        if (replayed[0] > 0) {
+            scores.set(replayedScores[0]);
+            logger.info("📜 %d partie(s) rejouée(s) depuis l'historique", replayed[0]);
+            saveScores();
+        }
+        if (leaderboard.getJournalSequence() != leaderboardSequence) {
+            logger.info("🏅 Classement mis à jour depuis l'historique (séquence %d)", leaderboard.getJournalSequence());
+            leaderboard.save();
+        }
+
+        // Record Snake antérieur à l'historique
+        ScoreSnapshot current = scores.get();
+        leaderboard.importHighScore("Snake", current.getSnakeHighScore(), parseDateTime(current.getSnakeHighScoreDate()));
     }
 
     /**
-     * Enregistrer une défaite Pong
+     * Instantané cohérent de tous les scores (à préférer à plusieurs getters successifs)
      */
-    public void recordPongAIWin() {
-        pongAIWins++;
-        pongGamesPlayed++;
-        totalGamesPlayed++;
-        lastPlayedGame = "Pong";
+    public ScoreSnapshot getSnapshot() {
+        return scores.get();
+    }
 
-        // Sauvegarder immédiatement
-        saveScores();
+    /**
+     * Classement des meilleures parties (tous les temps, par période, séries)
+     */
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
 
-        logger.info("Défaite Pong enregistrée ! Total: %d-%d", pongPlayerWins, pongAIWins);
+    // === MÉTHODES SNAKE ===
+
+    /**
+     * Enregistrer un score Snake (sans statistiques)
+     */
+    public void recordSnakeScore(int score) {
+        recordResult(new GameResult("Snake", score, false));
     }
 
-    public String getPongScore() { return pongPlayerWins + "-" + pongAIWins; }
-    public int getPongPlayerWins() { return pongPlayerWins; }
-    public int getPongAIWins() { return pongAIWins; }
-    public int getPongGamesPlayed() { return pongGamesPlayed; }
-    public int getPongCurrentSessionWins() { return pongCurrentSessionWins; }
-    public String getPongLastWinDate() { return pongLastWinDate; }
+    public int getSnakeHighScore() { return scores.get().getSnakeHighScore(); }
+    public int getSnakeTotalScore() { return scores.get().getSnakeTotalScore(); }
+    public int getSnakeGamesPlayed() { return scores.get().getSnakeGamesPlayed(); }
+    public int getSnakeCurrentSessionScore() { return scores.get().getSnakeCurrentSessionScore(); }
+    public String getSnakeHighScoreDate() { return scores.get().getSnakeHighScoreDate(); }
+    public int getSnakeAverageScore() { return scores.get().getSnakeAverageScore(); }
+
+    // === MÉTHODES PONG ===
 
-    public double getPongWinRate() {
-        return pongGamesPlayed > 0 ? ((double) pongPlayerWins / pongGamesPlayed * 100) : 0;
+    /**
+     * Enregistrer une victoire Pong (sans statistiques)
+     */
+    public void recordPongPlayerWin() {
+        recordResult(new GameResult("Pong", 0, true));
     }
 
+    /**
+     * Enregistrer une défaite Pong (sans statistiques)
+     */
+    public void recordPongAIWin() {
+        recordResult(new GameResult("Pong", 0, false));
+    }
+
+    public String getPongScore() { return scores.get().getPongScore(); }
+    public int getPongPlayerWins() { return scores.get().getPongPlayerWins(); }
+    public int getPongAIWins() { return scores.get().getPongAIWins(); }
+    public int getPongGamesPlayed() { return scores.get().getPongGamesPlayed(); }
+    public int getPongCurrentSessionWins() { return scores.get().getPongCurrentSessionWins(); }
+    public String getPongLastWinDate() { return scores.get().getPongLastWinDate(); }
+    public double getPongWinRate() { return scores.get().getPongWinRate(); }
+
     // === MÉTHODES DE PERSISTANCE ===
 
     /**
-     * Obtenir le répertoire de sauvegarde selon l'OS
+     * Obtenir le répertoire de sauvegarde
      */
     private Path getSaveDirectory() {
+        return saveDirectory;
+    }
+
+    /**
+     * Déterminer le répertoire de sauvegarde selon l'OS et le créer si besoin
+     */
+    private Path resolveSaveDirectory() {
         String userHome = System.getProperty("user.home");
         String os = System.getProperty("os.name").toLowerCase();
 
@@ -159,179 +264,85 @@ public enum ScoreManager {
 
     /**
      * Sauvegarder les scores dans un fichier local
+     * Le contenu est construit ici ; l'écriture est confiée au thread de sauvegarde.
+     * Si un autre thread publie pendant l'encodage, le nouvel instantané est redéposé :
+     * la dernière demande reçue par le thread de sauvegarde n'est jamais périmée.
      */
     private void saveScores() {
-        try {
-            Path saveDir = getSaveDirectory();
-            Path saveFile = saveDir.resolve(SAVE_FILE_NAME);
-            Path backupFile = saveDir.resolve(BACKUP_FILE_NAME);
-
-            // Créer une sauvegarde de l'ancien fichier
-            if (Files.exists(saveFile)) {
-                try {
-                    Files.copy(saveFile, backupFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                } catch (IOException e) {
-                    logger.error("Erreur création backup: %s", e.getMessage());
-                }
-            }
-
-            // Créer le contenu de sauvegarde (format simple)
-            StringBuilder content = new StringBuilder();
-            content.append("# Retro Arcade - Fichier de scores\n");
-            content.append("# Généré automatiquement le ").append(getCurrentDateTime()).append("\n");
-            content.append("version=1.0\n");
-            content.append("lastSessionDate=").append(getCurrentDateTime()).append("\n");
-            content.append("lastPlayedGame=").append(lastPlayedGame).append("\n");
-            content.append("totalGamesPlayed=").append(totalGamesPlayed).append("\n");
-            content.append("\n# Scores Snake\n");
-            content.append("snake.highScore=").append(snakeHighScore).append("\n");
-            content.append("snake.totalScore=").append(snakeTotalScore).append("\n");
-            content.append("snake.gamesPlayed=").append(snakeGamesPlayed).append("\n");
-            content.append("snake.highScoreDate=").append(snakeHighScoreDate).append("\n");
-            content.append("\n# Scores Pong\n");
-            content.append("pong.playerWins=").append(pongPlayerWins).append("\n");
-            content.append("pong.aiWins=").append(pongAIWins).append("\n");
-            content.append("pong.gamesPlayed=").append(pongGamesPlayed).append("\n");
-            content.append("pong.lastWinDate=").append(pongLastWinDate).append("\n");
-
-            // Écrire le fichier
-            Files.write(saveFile, content.toString().getBytes());
-
-            logger.debug("💾 Scores sauvegardés dans: %s", saveFile.toAbsolutePath());
-
-        } catch (IOException e) {
-            logger.error("❌ Erreur sauvegarde scores: %s", e.getMessage());
-        }
+        ScoreSnapshot snapshot;
+        do {
+            snapshot = scores.get();
+            persister.submit(ScoreFile.encode(snapshot.withLastSessionDate(getCurrentDateTime())));
+        } while (scores.get() != snapshot);
     }
 
     /**
      * Charger les scores depuis le fichier local
+     * Un fichier illisible ou altéré (CRC) fait basculer sur le backup.
      */
     private void loadScores() {
-        try {
-            Path saveDir = getSaveDirectory();
-            Path saveFile = saveDir.resolve(SAVE_FILE_NAME);
-
-            if (!Files.exists(saveFile)) {
-                logger.info("📁 Aucun fichier de scores trouvé, démarrage avec scores par défaut");
-                initializeDefaultScores();
-                return;
-            }
-
-            logger.info("📖 Chargement des scores depuis: %s", saveFile.toAbsolutePath());
+        Path saveFile = getSaveDirectory().resolve(SAVE_FILE_NAME);
+        Path backupFile = getSaveDirectory().resolve(BACKUP_FILE_NAME);
 
-            // Lire le fichier ligne par ligne
-            try (BufferedReader reader = Files.newBufferedReader(saveFile)) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    parseLine(line.trim());
-                }
-            }
+        if (!Files.exists(saveFile) && !Files.exists(backupFile)) {
+            logger.info("📁 Aucun fichier de scores trouvé, démarrage avec scores par défaut");
+            initializeDefaultScores(0);
+            return;
+        }
 
+        logger.info("📖 Chargement des scores depuis: %s", saveFile.toAbsolutePath());
+        if (tryLoad(saveFile)) {
+            ScoreSnapshot loaded = scores.get();
             logger.info("✅ Scores chargés avec succès !");
-            logger.info("   Snake High Score: %d", snakeHighScore);
-            logger.info("   Pong Score: %s", getPongScore());
-            logger.info("   Total parties: %d", totalGamesPlayed);
-
-        } catch (IOException e) {
-            logger.error("❌ Erreur chargement scores: %s", e.getMessage());
-
-            // Essayer de charger le backup
-            tryLoadBackup();
+            logger.info("   Snake High Score: %d", loaded.getSnakeHighScore());
+            logger.info("   Pong Score: %s", loaded.getPongScore());
+            logger.info("   Total parties: %d", loaded.getTotalGamesPlayed());
+            return;
         }
-    }
-
-    /**
-     * Essayer de charger le fichier de backup
-     */
-    private void tryLoadBackup() {
-        try {
-            Path saveDir = getSaveDirectory();
-            Path backupFile = saveDir.resolve(BACKUP_FILE_NAME);
 
-            if (Files.exists(backupFile)) {
-                logger.info("🔄 Tentative de chargement du backup...");
-
-                try (BufferedReader reader = Files.newBufferedReader(backupFile)) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        parseLine(line.trim());
-                    }
-                }
-
-                logger.info("✅ Backup chargé avec succès !");
-                // Sauvegarder immédiatement pour restaurer le fichier principal
-                saveScores();
-
-            } else {
-                logger.info("❌ Aucun backup trouvé, initialisation par défaut");
-                initializeDefaultScores();
-            }
-
-        } catch (IOException e) {
-            logger.error("❌ Erreur chargement backup: %s", e.getMessage());
-            initializeDefaultScores();
+        logger.info("🔄 Tentative de chargement du backup...");
+        if (tryLoad(backupFile)) {
+            logger.info("✅ Backup chargé avec succès !");
+            // Sauvegarder immédiatement pour restaurer le fichier principal
+            saveScores();
+        } else {
+            logger.info("❌ Aucun backup lisible, initialisation par défaut");
+            initializeDefaultScores(0);
         }
     }
 
     /**
-     * Parser une ligne du fichier de sauvegarde
+     * Lire un fichier de scores (binaire, ou texte version 1.0 migré)
+     * @return false si le fichier est absent, illisible ou altéré
      */
-    private void parseLine(String line) {
-        if (line.isEmpty() || line.startsWith("#")) {
-            return; // Ignorer les commentaires et lignes vides
+    private boolean tryLoad(Path file) {
+        if (!Files.exists(file)) {
+            return false;
         }
-
-        String[] parts = line.split("=", 2);
-        if (parts.length != 2) {
-            return;
-        }
-
-        String key = parts[0].trim();
-        String value = parts[1].trim();
-
         try {
-            switch (key) {
-                case "lastPlayedGame" -> lastPlayedGame = value;
-                case "lastSessionDate" -> lastSessionDate = value;
-                case "totalGamesPlayed" -> totalGamesPlayed = Integer.parseInt(value);
-
-                // Snake
-                case "snake.highScore" -> snakeHighScore = Integer.parseInt(value);
-                case "snake.totalScore" -> snakeTotalScore = Integer.parseInt(value);
-                case "snake.gamesPlayed" -> snakeGamesPlayed = Integer.parseInt(value);
-                case "snake.highScoreDate" -> snakeHighScoreDate = value;
-
-                // Pong
-                case "pong.playerWins" -> pongPlayerWins = Integer.parseInt(value);
-                case "pong.aiWins" -> pongAIWins = Integer.parseInt(value);
-                case "pong.gamesPlayed" -> pongGamesPlayed = Integer.parseInt(value);
-                case "pong.lastWinDate" -> pongLastWinDate = value;
+            byte[] bytes = Files.readAllBytes(file);
+            if (ScoreFile.isBinary(bytes)) {
+                scores.set(ScoreFile.decode(bytes));
+            } else {
+                scores.set(ScoreFile.decodeText(new String(bytes, StandardCharsets.UTF_8)));
+                logger.info("🔁 Fichier de scores texte migré vers le format binaire: %s", file.getFileName());
+                saveScores();
             }
-        } catch (NumberFormatException e) {
-            logger.warn("⚠️ Erreur parsing ligne: %s", line);
+            return true;
+        } catch (IOException e) {
+            logger.error("❌ Erreur chargement %s: %s", file.getFileName(), e.getMessage());
+            return false;
         }
     }
 
     /**
      * Initialiser les scores par défaut
+     * @param journalSequence Point de reprise de l'historique
      */
-    private void initializeDefaultScores() {
-        snakeHighScore = 0;
-        snakeTotalScore = 0;
-        snakeGamesPlayed = 0;
-        snakeCurrentSessionScore = 0;
-        snakeHighScoreDate = "";
-
-        pongPlayerWins = 0;
-        pongAIWins = 0;
-        pongGamesPlayed = 0;
-        pongCurrentSessionWins = 0;
-        pongLastWinDate = "";
-
-        lastPlayedGame = "";
-        lastSessionDate = getCurrentDateTime();
-        totalGamesPlayed = 0;
+    private void initializeDefaultScores(long journalSequence) {
+        scores.set(ScoreSnapshot.EMPTY
+                .resetJournalSequence(journalSequence)
+                .withLastSessionDate(getCurrentDateTime()));
 
         // Sauvegarder les valeurs par défaut
         saveScores();
@@ -341,7 +352,22 @@ public enum ScoreManager {
      * Obtenir la date/heure actuelle formatée
      */
     private String getCurrentDateTime() {
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"));
+        return formatDateTime(LocalDateTime.now());
+    }
+
+    private String formatDateTime(LocalDateTime dateTime) {
+        return dateTime.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"));
+    }
+
+    /**
+     * Relire une date du fichier de scores (maintenant si vide ou illisible)
+     */
+    private LocalDateTime parseDateTime(String text) {
+        try {
+            return LocalDateTime.parse(text, DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"));
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.now();
+        }
     }
 
     // === MÉTHODES UTILITAIRES ===
@@ -350,9 +376,8 @@ public enum ScoreManager {
      * Réinitialiser les scores de session (nouveau lancement du jeu)
      */
     public void resetSessionScores() {
-        snakeCurrentSessionScore = 0;
-        pongCurrentSessionWins = 0;
-        lastSessionDate = getCurrentDateTime();
+        String now = getCurrentDateTime();
+        scores.updateAndGet(snapshot -> snapshot.withSessionReset(now));
 
         logger.info("🔄 Scores de session réinitialisés");
     }
@@ -364,7 +389,9 @@ public enum ScoreManager {
         // Créer un backup avant de tout effacer
         createManualBackup();
 
-        initializeDefaultScores();
+        // L'historique est conservé : les parties déjà jouées ne sont plus rejouées
+        initializeDefaultScores(journal.getLastSequence());
+        leaderboard.clear(journal.getLastSequence());
 
         logger.info("🗑️ Tous les scores ont été réinitialisés !");
     }
@@ -397,34 +424,35 @@ public enum ScoreManager {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
             Path exportFile = saveDir.resolve("retro_arcade_export_" + timestamp + ".txt");
 
+            ScoreSnapshot snapshot = scores.get();
             StringBuilder export = new StringBuilder();
             export.append("=== RETRO ARCADE - EXPORT DES SCORES ===\n");
             export.append("Date d'export: ").append(getCurrentDateTime()).append("\n\n");
 
             export.append("🐍 SNAKE:\n");
-            export.append("  High Score: ").append(snakeHighScore);
-            if (!snakeHighScoreDate.isEmpty()) {
-                export.append(" (").append(snakeHighScoreDate).append(")");
+            export.append("  High Score: ").append(snapshot.getSnakeHighScore());
+            if (!snapshot.getSnakeHighScoreDate().isEmpty()) {
+                export.append(" (").append(snapshot.getSnakeHighScoreDate()).append(")");
             }
             export.append("\n");
-            export.append("  Score Total: ").append(snakeTotalScore).append("\n");
-            export.append("  Parties jouées: ").append(snakeGamesPlayed).append("\n");
-            export.append("  Moyenne: ").append(getSnakeAverageScore()).append("\n\n");
+            export.append("  Score Total: ").append(snapshot.getSnakeTotalScore()).append("\n");
+            export.append("  Parties jouées: ").append(snapshot.getSnakeGamesPlayed()).append("\n");
+            export.append("  Moyenne: ").append(snapshot.getSnakeAverageScore()).append("\n\n");
 
             export.append("🏓 PONG:\n");
-            export.append("  Score: ").append(getPongScore()).append("\n");
-            export.append("  Parties jouées: ").append(pongGamesPlayed).append("\n");
-            export.append("  Taux de victoire: ").append(String.format("%.1f%%", getPongWinRate())).append("\n");
-            if (!pongLastWinDate.isEmpty()) {
-                export.append("  Dernière victoire: ").append(pongLastWinDate).append("\n");
+            export.append("  Score: ").append(snapshot.getPongScore()).append("\n");
+            export.append("  Parties jouées: ").append(snapshot.getPongGamesPlayed()).append("\n");
+            export.append("  Taux de victoire: ").append(String.format("%.1f%%", snapshot.getPongWinRate())).append("\n");
+            if (!snapshot.getPongLastWinDate().isEmpty()) {
+                export.append("  Dernière victoire: ").append(snapshot.getPongLastWinDate()).append("\n");
             }
             export.append("\n");
 
             export.append("📊 GLOBAL:\n");
-            export.append("  Total parties: ").append(totalGamesPlayed).append("\n");
-            export.append("  Dernier jeu: ").append(lastPlayedGame).append("\n");
-            export.append("  Session courante: Snake +").append(snakeCurrentSessionScore)
-                    .append(", Pong +").append(pongCurrentSessionWins).append("\n");
+            export.append("  Total parties: ").append(snapshot.getTotalGamesPlayed()).append("\n");
+            export.append("  Dernier jeu: ").append(snapshot.getLastPlayedGame()).append("\n");
+            export.append("  Session courante: Snake +").append(snapshot.getSnakeCurrentSessionScore())
+                    .append(", Pong +").append(snapshot.getPongCurrentSessionWins()).append("\n");
 
             Files.write(exportFile, export.toString().getBytes());
             logger.info("📄 Scores exportés vers: %s", exportFile.toAbsolutePath());
@@ -438,14 +466,17 @@ public enum ScoreManager {
      * Obtenir un résumé des scores pour le debug
      */
     public String getScoreSummary() {
+        ScoreSnapshot snapshot = scores.get();
         return String.format(
                 "=== SCORES GLOBAUX ===\n" +
                         "Snake: High=%d, Total=%d, Parties=%d, Moyenne=%d, Session=%d\n" +
                         "Pong: %s, Parties=%d, Winrate=%.1f%%, Session=%d victoires\n" +
                         "Global: %d parties jouées, dernier jeu: %s",
-                snakeHighScore, snakeTotalScore, snakeGamesPlayed, getSnakeAverageScore(), snakeCurrentSessionScore,
-                getPongScore(), pongGamesPlayed, getPongWinRate(), pongCurrentSessionWins,
-                totalGamesPlayed, lastPlayedGame
+                snapshot.getSnakeHighScore(), snapshot.getSnakeTotalScore(), snapshot.getSnakeGamesPlayed(),
+                snapshot.getSnakeAverageScore(), snapshot.getSnakeCurrentSessionScore(),
+                snapshot.getPongScore(), snapshot.getPongGamesPlayed(), snapshot.getPongWinRate(),
+                snapshot.getPongCurrentSessionWins(),
+                snapshot.getTotalGamesPlayed(), snapshot.getLastPlayedGame()
         );
     }
 
@@ -453,14 +484,22 @@ public enum ScoreManager {
      * Forcer la sauvegarde (utile pour l'arrêt du programme)
      */
     public void forceSave() {
+        journal.flush();
         saveScores();
+        persister.flush(); // Écriture immédiate sur le thread appelant
+        leaderboard.flush();
         logger.info("💾 Sauvegarde forcée des scores");
     }
 
     // === GETTERS SUPPLÉMENTAIRES ===
 
-    public String getLastPlayedGame() { return lastPlayedGame; }
-    public String getLastSessionDate() { return lastSessionDate; }
-    public int getTotalGamesPlayed() { return totalGamesPlayed; }
+    public String getLastPlayedGame() { return scores.get().getLastPlayedGame(); }
+    public String getLastSessionDate() { return scores.get().getLastSessionDate(); }
+    public int getTotalGamesPlayed() { return scores.get().getTotalGamesPlayed(); }
     public Path getSaveFilePath() { return getSaveDirectory().resolve(SAVE_FILE_NAME); }
+
+    // Mesures des sauvegardes du fichier de scores (réussies ou non)
+    public LatencyHistogram getSaveHistogram() { return persister.getSaveHistogram(); }
+    public long getSaveFailures() { return persister.getSaveFailures(); }
+    public String getLastSaveError() { return persister.getLastSaveError(); }
 }
\ No newline at end of file
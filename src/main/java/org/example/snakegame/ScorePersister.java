@@ -0,0 +1,183 @@
+package org.example.snakegame;
+
+import org.example.snakegame.common.GameLogger;
+import org.example.snakegame.common.LatencyHistogram;
+import org.example.snakegame.common.ValidationUtils;
+import org.example.snakegame.monitoring.ArcadeEvents;
+import org.example.snakegame.monitoring.ScoreSaveEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Écriture différée d'un fichier de sauvegarde (scores, classement) sur un thread dédié
+ *
+ * Les demandes de sauvegarde ne font que déposer le contenu à écrire : seul le plus
+ * récent est gardé, et il est écrit un court instant plus tard, ce qui regroupe les
+ * rafales (fin de partie, retour au menu). Le fichier est écrit à côté puis installé
+ * par un déplacement atomique : un arrêt brutal laisse l'ancien fichier ou le nouveau,
+ * jamais un fichier à moitié écrit. {@link #flush()} écrit immédiatement sur le thread
+ * appelant (fermeture, hook d'arrêt). Le libellé passé au constructeur identifie le
+ * fichier dans les journaux, les événements JFR, les mesures et le nom du thread. Un
+ * contenu dont l'écriture échoue est remis en attente et réessayé avec un délai croissant.
+ */
+public final class ScorePersister {
+
+    private static final long COALESCE_DELAY_MILLIS = 250;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30_000;
+
+    private final GameLogger logger = GameLogger.getLogger(ScorePersister.class);
+    private final String label;
+    private final Path saveFile;
+    private final Path backupFile;
+    private final Path tempFile;
+    private final ScheduledExecutorService writer;
+
+    // Dernier contenu demandé, pas encore écrit
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+    // Une écriture est déjà programmée sur le thread dédié
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    // Échecs consécutifs, pour espacer les nouvelles tentatives
+    private int consecutiveFailures;
+
+    // Mesures des sauvegardes (supervision JMX)
+    private final LatencyHistogram saveHistogram;
+    private final AtomicLong saveFailures = new AtomicLong();
+    private volatile String lastSaveError = "";
+
+    /**
+     * Constructeur
+     * @param label Nom du fichier dans les journaux et les mesures ("scores", "classement")
+     * @param saveFile Fichier à écrire
+     * @param backupFile Copie de la version précédente
+     */
+    public ScorePersister(String label, Path saveFile, Path backupFile) {
+        this.label = ValidationUtils.requireNonEmpty(label, "label");
+        this.saveHistogram = new LatencyHistogram("sauvegarde " + label);
+        this.saveFile = ValidationUtils.requireNonNull(saveFile, "saveFile");
+        this.backupFile = ValidationUtils.requireNonNull(backupFile, "backupFile");
+        this.tempFile = saveFile.resolveSibling(saveFile.getFileName() + ".tmp");
+        this.writer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "score-persister-" + label);
+            thread.setDaemon(true); // Le hook d'arrêt appelle flush()
+            return thread;
+        });
+    }
+
+    /**
+     * Demander l'écriture d'un contenu (remplace une demande pas encore écrite)
+     */
+    public void submit(byte[] content) {
+        pending.set(ValidationUtils.requireNonNull(content, "content"));
+        if (scheduled.compareAndSet(false, true)) {
+            writer.schedule(this::writeScheduled, COALESCE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Écrire immédiatement la demande en attente, sur le thread appelant
+     */
+    public void flush() {
+        writePending();
+    }
+
+    private void writeScheduled() {
+        scheduled.set(false);
+        writePending();
+    }
+
+    /**
+     * Écrire le dernier contenu demandé (une seule écriture à la fois)
+     */
+    private synchronized void writePending() {
+        byte[] content = pending.getAndSet(null);
+        if (content == null) {
+            return;
+        }
+        ScoreSaveEvent event = ArcadeEvents.SCORE_SAVE.isEnabled() ? new ScoreSaveEvent() : null;
+        if (event != null) {
+            event.begin();
+            event.store = label;
+            event.path = saveFile.toString();
+        }
+        long start = System.nanoTime();
+        try {
+            write(content);
+            if (event != null) {
+                event.bytesWritten = content.length;
+                event.success = true;
+            }
+            consecutiveFailures = 0;
+            logger.debug("💾 Sauvegarde %s écrite dans: %s", label, saveFile.toAbsolutePath());
+        } catch (IOException e) {
+            saveFailures.incrementAndGet();
+            lastSaveError = String.valueOf(e.getMessage());
+            logger.error("❌ Erreur sauvegarde %s: %s", label, e.getMessage());
+            // Remettre le contenu en attente, sauf si une demande plus récente est arrivée
+            pending.compareAndSet(null, content);
+            scheduleRetry();
+        } finally {
+            saveHistogram.record(System.nanoTime() - start);
+            if (event != null) {
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Reprogrammer l'écriture après un échec (délai doublé à chaque échec, borné)
+     */
+    private void scheduleRetry() {
+        consecutiveFailures++;
+        long delay = Math.min(MAX_RETRY_DELAY_MILLIS,
+                COALESCE_DELAY_MILLIS << Math.min(consecutiveFailures, 10));
+        if (scheduled.compareAndSet(false, true)) {
+            writer.schedule(this::writeScheduled, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Fichier temporaire écrit et synchronisé, ancienne version copiée, puis remplacement atomique
+     */
+    private void write(byte[] content) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        if (Files.exists(saveFile)) {
+            try {
+                Files.copy(saveFile, backupFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                logger.error("Erreur création backup %s: %s", label, e.getMessage());
+            }
+        }
+
+        try {
+            Files.move(tempFile, saveFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, saveFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public String getLabel() { return label; }
+    public LatencyHistogram getSaveHistogram() { return saveHistogram; }
+    public long getSaveFailures() { return saveFailures.get(); }
+    public String getLastSaveError() { return lastSaveError; }
+}
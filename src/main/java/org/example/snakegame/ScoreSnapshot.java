@@ -0,0 +1,165 @@
+package org.example.snakegame;
+
+/**
+ * État complet des scores à un instant donné, immuable
+ *
+ * Publié par le ScoreManager : un lecteur (menu, HUD, sauvegarde, hook d'arrêt) obtient
+ * toujours un ensemble cohérent de valeurs. Chaque modification produit un nouvel
+ * instantané via les méthodes {@code with...}.
+ */
+public final class ScoreSnapshot {
+
+    /** Aucun score enregistré */
+    public static final ScoreSnapshot EMPTY = new ScoreSnapshot(0, 0, "", "",
+            0, 0, 0, 0, "",
+            0, 0, 0, 0, "");
+
+    // Métadonnées
+    private final long journalSequence; // Dernière partie de l'historique prise en compte
+    private final int totalGamesPlayed;
+    private final String lastPlayedGame;
+    private final String lastSessionDate;
+
+    // Scores Snake
+    private final int snakeHighScore;
+    private final int snakeTotalScore;
+    private final int snakeGamesPlayed;
+    private final int snakeCurrentSessionScore;
+    private final String snakeHighScoreDate;
+
+    // Scores Pong (format wins-losses)
+    private final int pongPlayerWins;
+    private final int pongAIWins;
+    private final int pongGamesPlayed;
+    private final int pongCurrentSessionWins;
+    private final String pongLastWinDate;
+
+    /**
+     * Constructeur complet (textes null remplacés par des chaînes vides)
+     */
+    public ScoreSnapshot(long journalSequence, int totalGamesPlayed, String lastPlayedGame, String lastSessionDate,
+                         int snakeHighScore, int snakeTotalScore, int snakeGamesPlayed, int snakeCurrentSessionScore,
+                         String snakeHighScoreDate,
+                         int pongPlayerWins, int pongAIWins, int pongGamesPlayed, int pongCurrentSessionWins,
+                         String pongLastWinDate) {
+        this.journalSequence = journalSequence;
+        this.totalGamesPlayed = totalGamesPlayed;
+        this.lastPlayedGame = textOrEmpty(lastPlayedGame);
+        this.lastSessionDate = textOrEmpty(lastSessionDate);
+        this.snakeHighScore = snakeHighScore;
+        this.snakeTotalScore = snakeTotalScore;
+        this.snakeGamesPlayed = snakeGamesPlayed;
+        this.snakeCurrentSessionScore = snakeCurrentSessionScore;
+        this.snakeHighScoreDate = textOrEmpty(snakeHighScoreDate);
+        this.pongPlayerWins = pongPlayerWins;
+        this.pongAIWins = pongAIWins;
+        this.pongGamesPlayed = pongGamesPlayed;
+        this.pongCurrentSessionWins = pongCurrentSessionWins;
+        this.pongLastWinDate = textOrEmpty(pongLastWinDate);
+    }
+
+    private static String textOrEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    /**
+     * Ajouter une partie de Snake
+     * @param date Date de la partie (record éventuel)
+     * @param live false pendant la relecture de l'historique (score de session inchangé)
+     */
+    public ScoreSnapshot withSnakeScore(int score, String date, boolean live) {
+        boolean record = score > snakeHighScore;
+        return new ScoreSnapshot(journalSequence, totalGamesPlayed + 1, "Snake", lastSessionDate,
+                record ? score : snakeHighScore, snakeTotalScore + score, snakeGamesPlayed + 1,
+                live ? snakeCurrentSessionScore + score : snakeCurrentSessionScore,
+                record ? date : snakeHighScoreDate,
+                pongPlayerWins, pongAIWins, pongGamesPlayed, pongCurrentSessionWins, pongLastWinDate);
+    }
+
+    /**
+     * Ajouter un match de Pong
+     * @param date Date du match (dernière victoire éventuelle)
+     * @param live false pendant la relecture de l'historique (victoires de session inchangées)
+     */
+    public ScoreSnapshot withPongResult(boolean playerWon, String date, boolean live) {
+        return new ScoreSnapshot(journalSequence, totalGamesPlayed + 1, "Pong", lastSessionDate,
+                snakeHighScore, snakeTotalScore, snakeGamesPlayed, snakeCurrentSessionScore, snakeHighScoreDate,
+                playerWon ? pongPlayerWins + 1 : pongPlayerWins,
+                playerWon ? pongAIWins : pongAIWins + 1,
+                pongGamesPlayed + 1,
+                playerWon && live ? pongCurrentSessionWins + 1 : pongCurrentSessionWins,
+                playerWon ? date : pongLastWinDate);
+    }
+
+    /**
+     * Avancer le point de reprise de l'historique (jamais en arrière)
+     */
+    public ScoreSnapshot withJournalSequence(long sequence) {
+        if (sequence <= journalSequence) {
+            return this;
+        }
+        return new ScoreSnapshot(sequence, totalGamesPlayed, lastPlayedGame, lastSessionDate,
+                snakeHighScore, snakeTotalScore, snakeGamesPlayed, snakeCurrentSessionScore, snakeHighScoreDate,
+                pongPlayerWins, pongAIWins, pongGamesPlayed, pongCurrentSessionWins, pongLastWinDate);
+    }
+
+    /**
+     * Remplacer le point de reprise de l'historique (historique recréé)
+     */
+    public ScoreSnapshot resetJournalSequence(long sequence) {
+        return new ScoreSnapshot(sequence, totalGamesPlayed, lastPlayedGame, lastSessionDate,
+                snakeHighScore, snakeTotalScore, snakeGamesPlayed, snakeCurrentSessionScore, snakeHighScoreDate,
+                pongPlayerWins, pongAIWins, pongGamesPlayed, pongCurrentSessionWins, pongLastWinDate);
+    }
+
+    /**
+     * Changer la date de session
+     */
+    public ScoreSnapshot withLastSessionDate(String date) {
+        return new ScoreSnapshot(journalSequence, totalGamesPlayed, lastPlayedGame, date,
+                snakeHighScore, snakeTotalScore, snakeGamesPlayed, snakeCurrentSessionScore, snakeHighScoreDate,
+                pongPlayerWins, pongAIWins, pongGamesPlayed, pongCurrentSessionWins, pongLastWinDate);
+    }
+
+    /**
+     * Nouvelle session : scores de session remis à zéro
+     */
+    public ScoreSnapshot withSessionReset(String date) {
+        return new ScoreSnapshot(journalSequence, totalGamesPlayed, lastPlayedGame, date,
+                snakeHighScore, snakeTotalScore, snakeGamesPlayed, 0, snakeHighScoreDate,
+                pongPlayerWins, pongAIWins, pongGamesPlayed, 0, pongLastWinDate);
+    }
+
+    // Getters
+    public long getJournalSequence() { return journalSequence; }
+    public int getTotalGamesPlayed() { return totalGamesPlayed; }
+    public String getLastPlayedGame() { return lastPlayedGame; }
+    public String getLastSessionDate() { return lastSessionDate; }
+
+    public int getSnakeHighScore() { return snakeHighScore; }
+    public int getSnakeTotalScore() { return snakeTotalScore; }
+    public int getSnakeGamesPlayed() { return snakeGamesPlayed; }
+    public int getSnakeCurrentSessionScore() { return snakeCurrentSessionScore; }
+    public String getSnakeHighScoreDate() { return snakeHighScoreDate; }
+
+    public int getSnakeAverageScore() {
+        return snakeGamesPlayed > 0 ? (snakeTotalScore / snakeGamesPlayed) : 0;
+    }
+
+    public int getPongPlayerWins() { return pongPlayerWins; }
+    public int getPongAIWins() { return pongAIWins; }
+    public int getPongGamesPlayed() { return pongGamesPlayed; }
+    public int getPongCurrentSessionWins() { return pongCurrentSessionWins; }
+    public String getPongLastWinDate() { return pongLastWinDate; }
+    public String getPongScore() { return pongPlayerWins + "-" + pongAIWins; }
+
+    public double getPongWinRate() {
+        return pongGamesPlayed > 0 ? ((double) pongPlayerWins / pongGamesPlayed * 100) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ScoreSnapshot[snake=%d/%d, pong=%s, parties=%d, séquence=%d]",
+                snakeHighScore, snakeGamesPlayed, getPongScore(), totalGamesPlayed, journalSequence);
+    }
+}
@@ -16,10 +16,11 @@ import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 import javafx.util.Duration;
 import org.example.snakegame.common.GameLogger;
+import org.example.snakegame.common.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Splash Screen rétro avec animation de chargement
@@ -37,7 +38,7 @@ public class SplashScreen {
     // Étapes de chargement simulées
     private List<LoadingStep> loadingSteps;
     private int currentStep = 0;
-    private final Random random = new Random();
+    private final RandomGenerator random = GameRandom.split();
 
     /**
      * Étape de chargement avec message et durée
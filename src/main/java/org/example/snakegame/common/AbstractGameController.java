@@ -1,7 +1,16 @@
 package org.example.snakegame.common;
 
-import javafx.animation.Timeline;
+import javafx.application.Platform;
+import org.example.snakegame.monitoring.ArcadeEvents;
+import org.example.snakegame.monitoring.ArcadeMBeans;
+import org.example.snakegame.monitoring.GameStateChangeEvent;
+import org.example.snakegame.monitoring.GameTickEvent;
+import org.example.snakegame.monitoring.RenderPassEvent;
+
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.DoubleConsumer;
 
 /**
  * Classe de base pour les contrôleurs de jeu.
@@ -9,13 +18,34 @@ import java.util.Objects;
  */
 public abstract class AbstractGameController {
 
+    /** Propriété système pour exécuter la simulation sur un thread dédié */
+    public static final String SIMULATION_THREAD_PROPERTY = "arcade.simulationThread";
+
     protected final GameLogger logger;
     private final GameCallbacks callbacks = new GameCallbacks();
-    protected GameState gameState = GameState.STARTING;
-    protected Timeline gameLoop;
+    protected volatile GameState gameState = GameState.STARTING;
+    protected GameLoop gameLoop;
+    // Horloge du jeu : figée hors partie et pendant la pause
+    protected final PausableClock clock;
+    // Simulation sur un thread dédié : le thread JavaFX ne fait que dessiner
+    protected final boolean simulationThreaded;
+    // Entrées du joueur à appliquer au prochain tick (mode thread de simulation)
+    private final Queue<Runnable> inputQueue = new ConcurrentLinkedQueue<>();
+
+    // Mesures de la boucle de jeu : durée d'un tick, d'un rendu, intervalle entre deux ticks
+    private final LatencyHistogram tickHistogram = new LatencyHistogram("tick");
+    private final LatencyHistogram renderHistogram = new LatencyHistogram("rendu");
+    private final LatencyHistogram tickIntervalHistogram = new LatencyHistogram("intervalle");
+    private long lastTickStart; // 0 : pas de tick précédent (démarrage, reprise)
 
     protected AbstractGameController(Class<?> contextClass) {
         this.logger = GameLogger.getLogger(contextClass);
+        this.clock = new PausableClock(GameClock.system());
+        this.clock.pause();
+        this.simulationThreaded = Boolean.getBoolean(SIMULATION_THREAD_PROPERTY);
+        if (simulationThreaded) {
+            logger.info("Simulation sur un thread dédié");
+        }
     }
 
     public final void setScoreUpdateListener(ScoreUpdateListener listener) {
@@ -47,6 +77,13 @@ public abstract class AbstractGameController {
         if (this.gameState != validatedState) {
             GameState previousState = this.gameState;
             this.gameState = validatedState;
+            if (ArcadeEvents.GAME_STATE_CHANGE.isEnabled()) {
+                GameStateChangeEvent event = new GameStateChangeEvent();
+                event.game = getGameName();
+                event.previousState = previousState.name();
+                event.newState = validatedState.name();
+                event.commit();
+            }
             notifyGameStateChange(previousState, validatedState);
         }
     }
@@ -55,6 +92,125 @@ public abstract class AbstractGameController {
         return gameState;
     }
 
+    /**
+     * Créer la boucle de jeu, instrumentée (durées de tick et de rendu, intervalle entre ticks)
+     * @param tickMillis Durée d'un tick en millisecondes
+     */
+    protected final GameLoop createGameLoop(double tickMillis, Runnable tick, DoubleConsumer render) {
+        GameLoop loop = GameLoop.ofMillis(tickMillis, () -> measureTick(tick), alpha -> measureRender(render, alpha),
+                simulationThreaded);
+        ArcadeMBeans.gameLoop().attach(this); // Contrôleur exposé en JMX jusqu'à dispose()
+        return loop;
+    }
+
+    private void measureTick(Runnable tick) {
+        // Événement JFR créé seulement si un enregistrement l'active
+        GameTickEvent event = ArcadeEvents.GAME_TICK.isEnabled() ? new GameTickEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long start = System.nanoTime();
+        long interval = lastTickStart != 0 ? start - lastTickStart : 0;
+        if (interval != 0) {
+            tickIntervalHistogram.record(interval);
+        }
+        lastTickStart = start;
+        tick.run();
+        tickHistogram.record(System.nanoTime() - start);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.game = getGameName();
+                event.interval = interval;
+                describeTick(event);
+                event.commit();
+            }
+        }
+    }
+
+    private void measureRender(DoubleConsumer render, double alpha) {
+        RenderPassEvent event = ArcadeEvents.RENDER_PASS.isEnabled() ? new RenderPassEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long start = System.nanoTime();
+        render.accept(alpha);
+        renderHistogram.record(System.nanoTime() - start);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.game = getGameName();
+                event.alpha = alpha;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Écrire le résumé des mesures de la boucle dans le journal
+     */
+    public void logLoopStatistics() {
+        logger.game("⏱️", "%s - %s", getGameName(), tickHistogram.summary());
+        logger.game("⏱️", "%s - %s", getGameName(), renderHistogram.summary());
+        logger.game("⏱️", "%s - %s", getGameName(), tickIntervalHistogram.summary());
+    }
+
+    /**
+     * Fréquence de tick visée (ticks par seconde), 0 sans boucle
+     */
+    public double getTargetTickRate() {
+        GameLoop loop = gameLoop;
+        return loop == null ? 0 : 1_000_000_000.0 / loop.getTickNanos();
+    }
+
+    /**
+     * Identifiant du thread qui exécute les ticks, -1 tant qu'il n'est pas démarré
+     * (mode thread de simulation uniquement)
+     */
+    public long getSimulationThreadId() {
+        GameLoop loop = gameLoop;
+        return loop == null ? -1 : loop.getSimulationThreadId();
+    }
+
+    public boolean isSimulationThreaded() { return simulationThreaded; }
+    public LatencyHistogram getTickHistogram() { return tickHistogram; }
+    public LatencyHistogram getRenderHistogram() { return renderHistogram; }
+    public LatencyHistogram getTickIntervalHistogram() { return tickIntervalHistogram; }
+
+    /**
+     * Transmettre une entrée du joueur à la simulation
+     * Appliquée au prochain tick si la simulation tourne sur son thread, immédiatement sinon.
+     */
+    protected final void submitInput(Runnable command) {
+        if (simulationThreaded && gameLoop != null && gameLoop.isRunning()) {
+            inputQueue.offer(command);
+        } else {
+            command.run();
+        }
+    }
+
+    /**
+     * Appliquer les entrées en attente (début de tick, thread de simulation)
+     */
+    protected final void drainInput() {
+        Runnable command;
+        while ((command = inputQueue.poll()) != null) {
+            command.run();
+        }
+    }
+
+    /**
+     * Exécuter une action sur le thread JavaFX (interface, son, sauvegarde)
+     * Directement si l'appel vient déjà du thread JavaFX.
+     */
+    protected final void runOnUiThread(Runnable action) {
+        if (simulationThreaded && !Platform.isFxApplicationThread()) {
+            Platform.runLater(action);
+        } else {
+            action.run();
+        }
+    }
+
     /**
      * Démarrer le jeu
      * Méthode factorisée pour éviter la duplication dans les controllers
@@ -62,6 +218,8 @@ public abstract class AbstractGameController {
     public void startGame() {
         if (gameState == GameState.WAITING_RESTART || gameState == GameState.PAUSED) {
             updateGameState(GameState.PLAYING);
+            clock.resume();
+            lastTickStart = 0; // L'attente avant le départ n'est pas un intervalle entre ticks
             if (gameLoop != null) {
                 gameLoop.play();
             }
@@ -77,11 +235,14 @@ public abstract class AbstractGameController {
         if (gameState == GameState.PLAYING) {
             updateGameState(GameState.PAUSED);
             if (gameLoop != null) {
-                gameLoop.pause();
+                gameLoop.pause(); // Avant l'horloge : plus aucun tick ne la lit
             }
+            clock.pause();
             logger.game("⏸️", "%s en pause", getGameName());
         } else if (gameState == GameState.PAUSED) {
             updateGameState(GameState.PLAYING);
+            clock.resume();
+            lastTickStart = 0; // La pause n'est pas un intervalle entre ticks
             if (gameLoop != null) {
                 gameLoop.play();
             }
@@ -98,10 +259,23 @@ public abstract class AbstractGameController {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        clock.pause();
         updateGameState(GameState.WAITING_RESTART);
         logger.debug("%s arrêté", getGameName());
     }
 
+    /**
+     * Arrêter le jeu et libérer la boucle (contrôleur abandonné)
+     */
+    public void dispose() {
+        stopGame();
+        if (gameLoop != null) {
+            gameLoop.dispose();
+        }
+        ArcadeMBeans.gameLoop().detach(this);
+        logLoopStatistics();
+    }
+
     /**
      * Redémarrer le jeu
      * Méthode factorisée pour éviter la duplication dans les controllers
@@ -110,15 +284,17 @@ public abstract class AbstractGameController {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        clock.pause();
+        inputQueue.clear(); // Entrées de la partie précédente
         onRestart(); // Hook pour réinitialiser le jeu
         logger.game("🔄", "%s redémarré", getGameName());
     }
 
     /**
-     * Obtenir le nom du jeu (pour les logs)
+     * Obtenir le nom du jeu (journal, supervision)
      * À implémenter par les sous-classes
      */
-    protected abstract String getGameName();
+    public abstract String getGameName();
 
     /**
      * Hook appelé lors du toggle pause (pour render() par exemple)
@@ -128,6 +304,14 @@ public abstract class AbstractGameController {
         // Implémentation par défaut vide
     }
 
+    /**
+     * Hook pour compléter l'événement JFR d'un tick (longueur du serpent, vitesse de la balle)
+     * Implémentation par défaut vide
+     */
+    protected void describeTick(GameTickEvent event) {
+        // Implémentation par défaut vide
+    }
+
     /**
      * Hook appelé lors du restart (pour réinitialiser le jeu)
      * À implémenter par les sous-classes
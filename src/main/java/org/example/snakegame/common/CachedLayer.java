@@ -0,0 +1,130 @@
+package org.example.snakegame.common;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.stage.Screen;
+
+import java.util.function.Consumer;
+
+/**
+ * Calque statique mis en cache
+ *
+ * Le contenu (fond, grille, textes d'aide...) est dessiné une seule fois dans un
+ * canvas hors écran puis capturé dans une {@link WritableImage}. Chaque frame ne fait
+ * ensuite qu'un {@code drawImage}. Le calque n'est redessiné qu'après
+ * {@link #invalidate()} (changement de thème) ou {@link #resize(double, double)}.
+ *
+ * L'image est rastérisée à l'échelle de sortie de l'écran (HiDPI, Retina) puis dessinée
+ * à sa taille logique : elle reste nette. L'échelle est celle de l'écran principal au
+ * moment de la rastérisation. Les pixels du rendu direct ({@link #getPixels()}) restent
+ * à l'échelle 1, comme la {@link PixelSurface}.
+ *
+ * Doit être utilisé depuis le thread JavaFX (capture par snapshot).
+ */
+public class CachedLayer {
+
+    private final Consumer<GraphicsContext> painter;
+    private double width;
+    private double height;
+    private WritableImage image;
+    private int[] pixels;
+    // Échelle de l'image en cache
+    private double scaleX = 1;
+    private double scaleY = 1;
+
+    /**
+     * Constructeur
+     * @param width Largeur du calque en pixels
+     * @param height Hauteur du calque en pixels
+     * @param painter Dessin du contenu statique (appelé à chaque invalidation)
+     */
+    public CachedLayer(double width, double height, Consumer<GraphicsContext> painter) {
+        this.painter = ValidationUtils.requireNonNull(painter, "painter");
+        setSize(width, height);
+    }
+
+    /**
+     * Dessiner le calque entier sur le contexte cible
+     */
+    public void drawOn(GraphicsContext gc) {
+        gc.drawImage(getImage(), 0, 0, width, height);
+    }
+
+    /**
+     * Restaurer une zone rectangulaire du calque (effacement d'une zone sale)
+     */
+    public void restoreRegion(GraphicsContext gc, double x, double y, double w, double h) {
+        WritableImage layer = getImage();
+        gc.drawImage(layer, x * scaleX, y * scaleY, w * scaleX, h * scaleY, x, y, w, h);
+    }
+
+    /**
+     * Forcer le redessin du calque à la prochaine utilisation
+     */
+    public void invalidate() {
+        image = null;
+        pixels = null;
+    }
+
+    /**
+     * Pixels ARGB prémultipliés du calque (rendu en pixels directs)
+     */
+    public int[] getPixels() {
+        if (pixels == null) {
+            WritableImage layer = rasterize(1, 1);
+            pixels = PixelSurface.readPixels(layer, 0, 0, (int) layer.getWidth(), (int) layer.getHeight());
+        }
+        return pixels;
+    }
+
+    /**
+     * Changer la taille du calque (redessiné à la prochaine utilisation)
+     */
+    public void resize(double width, double height) {
+        if (width != this.width || height != this.height) {
+            setSize(width, height);
+        }
+    }
+
+    /**
+     * Obtenir l'image du calque, en la dessinant si nécessaire
+     */
+    public WritableImage getImage() {
+        if (image == null) {
+            Screen screen = Screen.getPrimary();
+            scaleX = screen.getOutputScaleX();
+            scaleY = screen.getOutputScaleY();
+            image = rasterize(scaleX, scaleY);
+        }
+        return image;
+    }
+
+    /**
+     * Dessiner le contenu dans un canvas agrandi à l'échelle donnée, puis le capturer
+     */
+    private WritableImage rasterize(double scaleX, double scaleY) {
+        Canvas canvas = new Canvas(Math.ceil(width * scaleX), Math.ceil(height * scaleY));
+        GraphicsContext target = canvas.getGraphicsContext2D();
+        target.scale(scaleX, scaleY);
+        painter.accept(target);
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null);
+    }
+
+    private void setSize(double width, double height) {
+        if (width <= 0) throw new IllegalArgumentException("width must be positive");
+        if (height <= 0) throw new IllegalArgumentException("height must be positive");
+        this.width = width;
+        this.height = height;
+        this.image = null;
+        this.pixels = null;
+    }
+
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
+}
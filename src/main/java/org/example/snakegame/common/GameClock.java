@@ -0,0 +1,31 @@
+package org.example.snakegame.common;
+
+/**
+ * Horloge monotone du jeu
+ *
+ * Remplace les appels directs à {@code System.currentTimeMillis()} dans les objets
+ * du jeu : l'horloge est injectée, ce qui permet de la mettre en pause, de la faire
+ * avancer tick par tick en mode sans affichage, ou de la figer le temps d'une frame.
+ * Les valeurs n'ont de sens que relativement entre elles (pas de date absolue).
+ */
+public interface GameClock {
+
+    /**
+     * Temps courant en nanosecondes
+     */
+    long nanoTime();
+
+    /**
+     * Temps courant en millisecondes
+     */
+    default long millis() {
+        return nanoTime() / 1_000_000L;
+    }
+
+    /**
+     * Horloge temps réel basée sur {@link System#nanoTime()}
+     */
+    static GameClock system() {
+        return SystemGameClock.INSTANCE;
+    }
+}
@@ -0,0 +1,251 @@
+package org.example.snakegame.common;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Boucle de jeu à pas fixe, cadencée par le pulse d'affichage JavaFX
+ *
+ * Un {@link AnimationTimer} reçoit un pulse par rafraîchissement écran. Le temps écoulé
+ * est ajouté à un accumulateur, qui déclenche autant de ticks de simulation de durée
+ * fixe que nécessaire, puis un seul rendu par pulse avec le facteur d'interpolation
+ * {@code alpha} (fraction du tick suivant déjà écoulée, entre 0 et 1).
+ *
+ * Changer la cadence avec {@link #setTickNanos(long)} ne reconstruit rien : le prochain
+ * pulse utilise simplement le nouveau pas.
+ *
+ * En mode « thread de simulation », les ticks s'exécutent sur un thread dédié cadencé
+ * par {@link System#nanoTime()}, et le pulse JavaFX ne fait plus que le rendu : une pause
+ * du GC ou une écriture disque côté simulation ne bloque plus l'affichage, et
+ * inversement. Les ticks s'exécutent sous le moniteur de la boucle : au retour de
+ * {@link #pause()} ou {@link #stop()}, aucun tick n'est en cours et l'état de la
+ * simulation peut être modifié depuis le thread JavaFX.
+ */
+public class GameLoop {
+
+    // Au-delà, le retard est abandonné (fenêtre déplacée, machine en veille...)
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+    // Ticks maximum par pulse pour ne pas entrer dans une spirale de rattrapage
+    private static final int MAX_TICKS_PER_PULSE = 8;
+
+    private final Runnable tick;
+    private final DoubleConsumer render;
+    private final AnimationTimer timer;
+    private final boolean threaded;
+
+    private volatile long tickNanos;
+    private long accumulator;
+    private long lastPulse;
+    private volatile boolean running;
+
+    // Mode thread de simulation
+    private Thread simulationThread;
+    private volatile long simulationThreadId = -1; // Lu sans verrou (overlay de performance)
+    private volatile long lastTickTime; // Fin du dernier tick (interpolation du rendu)
+
+    /**
+     * Constructeur
+     * @param tickNanos Durée d'un tick de simulation en nanosecondes
+     * @param tick Action exécutée à chaque tick
+     * @param render Rendu appelé une fois par pulse avec le facteur d'interpolation
+     */
+    public GameLoop(long tickNanos, Runnable tick, DoubleConsumer render) {
+        this(tickNanos, tick, render, false);
+    }
+
+    /**
+     * Constructeur avec choix du thread de simulation
+     * @param threaded true pour exécuter les ticks sur un thread dédié
+     */
+    public GameLoop(long tickNanos, Runnable tick, DoubleConsumer render, boolean threaded) {
+        this.tick = ValidationUtils.requireNonNull(tick, "tick");
+        this.render = ValidationUtils.requireNonNull(render, "render");
+        this.threaded = threaded;
+        setTickNanos(tickNanos);
+        this.lastPulse = -1;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulse(now);
+            }
+        };
+    }
+
+    /**
+     * Créer une boucle à partir d'une durée de tick en millisecondes
+     */
+    public static GameLoop ofMillis(double tickMillis, Runnable tick, DoubleConsumer render) {
+        return ofMillis(tickMillis, tick, render, false);
+    }
+
+    /**
+     * Créer une boucle à partir d'une durée de tick en millisecondes
+     * @param threaded true pour exécuter les ticks sur un thread dédié
+     */
+    public static GameLoop ofMillis(double tickMillis, Runnable tick, DoubleConsumer render, boolean threaded) {
+        return new GameLoop(Math.round(tickMillis * 1_000_000L), tick, render, threaded);
+    }
+
+    /**
+     * Traiter un pulse d'affichage
+     */
+    private void pulse(long now) {
+        if (threaded) {
+            // Les ticks tournent ailleurs : interpoler depuis la fin du dernier tick
+            double alpha = (double) (System.nanoTime() - lastTickTime) / tickNanos;
+            render.accept(running ? Math.max(0, Math.min(1, alpha)) : 1.0);
+            return;
+        }
+        if (lastPulse < 0) {
+            lastPulse = now;
+        }
+        accumulator += Math.min(now - lastPulse, MAX_FRAME_NANOS);
+        lastPulse = now;
+
+        int ticks = 0;
+        while (running && accumulator >= tickNanos && ticks < MAX_TICKS_PER_PULSE) {
+            tick.run();
+            if (!running) {
+                break; // stop() pendant le tick : sa remise à zéro est conservée
+            }
+            accumulator -= tickNanos;
+            ticks++;
+        }
+        if (ticks == MAX_TICKS_PER_PULSE) {
+            accumulator %= tickNanos;
+        }
+
+        render.accept(running ? (double) accumulator / tickNanos : 1.0);
+    }
+
+    /**
+     * Boucle du thread de simulation : ticks à pas fixe sur l'horloge système
+     */
+    private void runSimulation() {
+        long nextTick = System.nanoTime();
+        while (true) {
+            synchronized (this) {
+                try {
+                    while (!running) {
+                        wait();
+                        nextTick = System.nanoTime() + tickNanos; // Le temps à l'arrêt n'est pas rattrapé
+                    }
+                } catch (InterruptedException e) {
+                    return; // Boucle libérée
+                }
+
+                long now = System.nanoTime();
+                if (now - nextTick > MAX_FRAME_NANOS) {
+                    nextTick = now; // Retard abandonné
+                }
+                int ticks = 0;
+                while (running && now - nextTick >= 0 && ticks < MAX_TICKS_PER_PULSE) {
+                    tick.run();
+                    nextTick += tickNanos;
+                    ticks++;
+                }
+                if (ticks > 0) {
+                    lastTickTime = System.nanoTime();
+                }
+            }
+            LockSupport.parkNanos(nextTick - System.nanoTime());
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Démarrer ou reprendre la boucle
+     */
+    public void play() {
+        if (running) {
+            return;
+        }
+        if (threaded) {
+            synchronized (this) {
+                running = true;
+                lastTickTime = System.nanoTime();
+                if (simulationThread == null) {
+                    simulationThread = new Thread(this::runSimulation, "game-simulation");
+                    simulationThread.setDaemon(true);
+                    simulationThreadId = simulationThread.getId();
+                    simulationThread.start();
+                }
+                notifyAll();
+            }
+        } else {
+            running = true;
+        }
+        lastPulse = -1; // Le temps passé à l'arrêt n'est pas rattrapé
+        timer.start();
+    }
+
+    /**
+     * Mettre en pause (l'accumulateur est conservé)
+     * En mode thread de simulation, attend la fin du tick en cours.
+     */
+    public void pause() {
+        if (threaded) {
+            synchronized (this) {
+                running = false;
+            }
+        } else {
+            running = false;
+        }
+        timer.stop();
+    }
+
+    /**
+     * Arrêter la boucle (l'accumulateur est remis à zéro)
+     */
+    public void stop() {
+        pause();
+        accumulator = 0;
+    }
+
+    /**
+     * Arrêter définitivement la boucle et libérer le thread de simulation
+     */
+    public void dispose() {
+        stop();
+        synchronized (this) {
+            if (simulationThread != null) {
+                simulationThread.interrupt();
+                simulationThread = null;
+                simulationThreadId = -1;
+            }
+        }
+    }
+
+    /**
+     * Changer la durée d'un tick, effective dès le prochain pulse
+     */
+    public void setTickNanos(long tickNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tickNanos must be positive");
+        }
+        this.tickNanos = tickNanos;
+    }
+
+    /**
+     * Changer la durée d'un tick en millisecondes
+     */
+    public void setTickMillis(double tickMillis) {
+        setTickNanos(Math.round(tickMillis * 1_000_000L));
+    }
+
+    public long getTickNanos() { return tickNanos; }
+    public boolean isRunning() { return running; }
+    public boolean isThreaded() { return threaded; }
+
+    /**
+     * Identifiant du thread de simulation, -1 s'il n'est pas démarré (ou hors mode thread)
+     * Sans verrou : le thread de simulation garde le moniteur pendant ses ticks.
+     */
+    public long getSimulationThreadId() {
+        return simulationThreadId;
+    }
+}
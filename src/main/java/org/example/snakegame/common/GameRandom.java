@@ -0,0 +1,79 @@
+package org.example.snakegame.common;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Service de nombres aléatoires du jeu
+ *
+ * Un générateur racine {@link SplittableRandom} est initialisé une fois par session
+ * (propriété système {@code arcade.seed}, sinon graine aléatoire journalisée).
+ * Chaque entité (nourriture, balle, raquette...) reçoit son propre générateur
+ * obtenu par {@link #split()} : aucun état partagé ni contention entre threads,
+ * et une même graine rejoue exactement la même séquence de tirages.
+ *
+ * Les générateurs rendus ne sont pas thread-safe : un générateur par entité.
+ */
+public final class GameRandom {
+
+    /** Propriété système pour fixer la graine de la session */
+    public static final String SEED_PROPERTY = "arcade.seed";
+
+    private static final GameLogger logger = GameLogger.getLogger(GameRandom.class);
+
+    private static long sessionSeed;
+    private static SplittableGenerator root;
+
+    // Générateur par thread pour les utilitaires statiques (Point.random)
+    private static final ThreadLocal<RandomGenerator> THREAD_GENERATOR =
+            ThreadLocal.withInitial(GameRandom::split);
+
+    static {
+        Long configured = Long.getLong(SEED_PROPERTY);
+        reseed(configured != null ? configured : new SplittableRandom().nextLong());
+    }
+
+    private GameRandom() {
+        // Classe utilitaire
+    }
+
+    /**
+     * Regraine la session (benchmarks, rejeu d'une partie)
+     * Les générateurs déjà distribués ne sont pas affectés.
+     */
+    public static synchronized void reseed(long seed) {
+        sessionSeed = seed;
+        root = new SplittableRandom(seed);
+        logger.game("🎲", "Graine de session: %d", seed);
+    }
+
+    /**
+     * Obtenir un nouveau générateur indépendant, dérivé de la graine de session
+     */
+    public static synchronized SplittableGenerator split() {
+        return root.split();
+    }
+
+    /**
+     * Créer un générateur dédié à partir d'une graine explicite
+     * (simulations parallèles reproductibles, indépendantes de la session)
+     */
+    public static SplittableGenerator create(long seed) {
+        return new SplittableRandom(seed);
+    }
+
+    /**
+     * Générateur propre au thread courant
+     */
+    public static RandomGenerator current() {
+        return THREAD_GENERATOR.get();
+    }
+
+    /**
+     * Obtenir la graine de la session en cours
+     */
+    public static synchronized long getSessionSeed() {
+        return sessionSeed;
+    }
+}
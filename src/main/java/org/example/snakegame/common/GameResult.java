@@ -19,10 +19,18 @@ public class GameResult {
      * Constructeur complet
      */
     public GameResult(String gameName, int finalScore, boolean isVictory, GameStatistics statistics) {
+        this(gameName, finalScore, isVictory, LocalDateTime.now(), statistics);
+    }
+
+    /**
+     * Constructeur avec date imposée (relecture de l'historique)
+     */
+    public GameResult(String gameName, int finalScore, boolean isVictory, LocalDateTime timestamp,
+                      GameStatistics statistics) {
         this.gameName = ValidationUtils.requireNonEmpty(gameName, "gameName");
         this.finalScore = ValidationUtils.requireNonNegative(finalScore, "finalScore");
         this.isVictory = isVictory;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = ValidationUtils.requireNonNull(timestamp, "timestamp");
         this.statistics = statistics; // null autorisé pour parties simples
     }
 
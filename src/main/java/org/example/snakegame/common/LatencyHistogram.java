@@ -0,0 +1,134 @@
+package org.example.snakegame.common;
+
+import java.util.Arrays;
+
+/**
+ * Histogramme de latences en nanosecondes, à mémoire fixe
+ *
+ * Même principe que HdrHistogram : les valeurs sont rangées par puissance de deux, et
+ * chaque puissance est découpée en {@value #SUB_BUCKET_COUNT} sous-intervalles linéaires.
+ * L'erreur relative est donc bornée (au plus 1/128, soit moins de 1 %) de la
+ * nanoseconde jusqu'à {@link #MAX_TRACKABLE_NANOS}, pour une trentaine de kilo-octets
+ * et sans allocation à l'enregistrement. Les valeurs au-delà sont ramenées au maximum mesurable.
+ *
+ * Un thread écrit (boucle de jeu), d'autres peuvent lire (journal, supervision).
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;  // 256
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;   // 128
+
+    /** Valeur maximale mesurable (environ 68 secondes) */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    private static final int MAX_EXPONENT = (63 - Long.numberOfLeadingZeros(MAX_TRACKABLE_NANOS)) - (SUB_BUCKET_BITS - 1);
+
+    private final String name;
+    private final long[] counts = new long[SUB_BUCKET_COUNT + MAX_EXPONENT * SUB_BUCKET_HALF];
+    private long totalCount;
+    private long totalNanos;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Constructeur
+     * @param name Nom de la mesure (journal)
+     */
+    public LatencyHistogram(String name) {
+        this.name = ValidationUtils.requireNonEmpty(name, "name");
+    }
+
+    /**
+     * Enregistrer une durée
+     * @param nanos Durée en nanosecondes (les valeurs négatives sont ignorées)
+     */
+    public synchronized void record(long nanos) {
+        if (nanos < 0) {
+            return;
+        }
+        long value = Math.min(nanos, MAX_TRACKABLE_NANOS);
+        counts[indexOf(value)]++;
+        totalCount++;
+        totalNanos += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Valeur au percentile donné (borne haute de l'intervalle, au plus le maximum mesuré)
+     * @param percentile Entre 0 et 100
+     * @return 0 si aucune valeur n'a été enregistrée
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        ValidationUtils.requireInRange(percentile, 0.0, 100.0, "percentile");
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(index), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Vider l'histogramme
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalNanos = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * Résumé lisible : nombre, moyenne et percentiles en microsecondes
+     */
+    public synchronized String summary() {
+        if (totalCount == 0) {
+            return name + ": aucune mesure";
+        }
+        return String.format("%s: n=%d moy=%.1fµs p50=%.1fµs p99=%.1fµs p99.9=%.1fµs max=%.1fµs",
+                name, totalCount, getMean() / 1000.0,
+                getValueAtPercentile(50) / 1000.0,
+                getValueAtPercentile(99) / 1000.0,
+                getValueAtPercentile(99.9) / 1000.0,
+                max / 1000.0);
+    }
+
+    /**
+     * Index de l'intervalle contenant une valeur
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> exponent); // Entre SUB_BUCKET_HALF et SUB_BUCKET_COUNT - 1
+        return SUB_BUCKET_COUNT + (exponent - 1) * SUB_BUCKET_HALF + (subBucket - SUB_BUCKET_HALF);
+    }
+
+    /**
+     * Plus grande valeur rangée dans un intervalle
+     */
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << exponent) - 1;
+    }
+
+    public String getName() { return name; }
+    public synchronized long getCount() { return totalCount; }
+    public synchronized long getMin() { return totalCount == 0 ? 0 : min; }
+    public synchronized long getMax() { return max; }
+    public synchronized double getMean() { return totalCount == 0 ? 0 : (double) totalNanos / totalCount; }
+}
@@ -0,0 +1,99 @@
+package org.example.snakegame.common;
+
+/**
+ * Encodage compact de coordonnées de grille (sans allocation)
+ *
+ * Format int : 16 bits pour X, 16 bits pour Y, chaque coordonnée décalée de 2^15
+ * pour accepter les valeurs négatives (tête sortie du plateau par exemple).
+ * Plage supportée : [-32768, 32767] sur chaque axe. Dans cette plage, déplacer une
+ * cellule revient à additionner un décalage précalculé par {@link Direction}.
+ *
+ * Format long : 32 bits par coordonnée, sans restriction de plage.
+ */
+public final class PackedCoords {
+
+    private static final int BIAS = 1 << 15;
+    private static final int[] OFFSETS = new int[Direction.values().length];
+
+    static {
+        for (Direction direction : Direction.values()) {
+            OFFSETS[direction.ordinal()] = (direction.getDeltaX() << 16) + direction.getDeltaY();
+        }
+    }
+
+    private PackedCoords() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Encoder (x, y) dans un int
+     */
+    public static int pack(int x, int y) {
+        return ((x + BIAS) << 16) | ((y + BIAS) & 0xFFFF);
+    }
+
+    /**
+     * Coordonnée X d'une cellule encodée
+     */
+    public static int x(int packed) {
+        return (packed >>> 16) - BIAS;
+    }
+
+    /**
+     * Coordonnée Y d'une cellule encodée
+     */
+    public static int y(int packed) {
+        return (packed & 0xFFFF) - BIAS;
+    }
+
+    /**
+     * Décalage à additionner à une cellule encodée pour avancer dans une direction
+     */
+    public static int offset(Direction direction) {
+        return OFFSETS[direction.ordinal()];
+    }
+
+    /**
+     * Cellule voisine dans une direction
+     */
+    public static int move(int packed, Direction direction) {
+        return packed + OFFSETS[direction.ordinal()];
+    }
+
+    /**
+     * Vérifier si une cellule encodée est dans une zone [0, width[ x [0, height[
+     */
+    public static boolean isInBounds(int packed, int width, int height) {
+        int x = x(packed);
+        int y = y(packed);
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Encoder un Point
+     */
+    public static int pack(Point point) {
+        return pack(point.x, point.y);
+    }
+
+    /**
+     * Encoder (x, y) dans un long (plage complète des int)
+     */
+    public static long packLong(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Coordonnée X d'une cellule encodée en long
+     */
+    public static int xOf(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Coordonnée Y d'une cellule encodée en long
+     */
+    public static int yOf(long packed) {
+        return (int) packed;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.snakegame.common;
+
+/**
+ * Horloge suspendable et cohérente par frame
+ *
+ * Le temps est échantillonné une seule fois par frame avec {@link #update()} :
+ * toutes les lectures d'une même frame voient la même valeur, pour le prix d'une
+ * simple lecture de champ. Pendant une pause le temps est figé, puis reprend là où
+ * il s'était arrêté (une nourriture bonus n'expire donc pas pendant la pause).
+ * Le temps part de 0 à la création.
+ */
+public class PausableClock implements GameClock {
+
+    private final GameClock source;
+    private long offset; // source - temps du jeu
+    private long now;
+    private boolean paused;
+
+    /**
+     * Constructeur
+     * @param source Horloge sous-jacente (temps réel en jeu)
+     */
+    public PausableClock(GameClock source) {
+        this.source = ValidationUtils.requireNonNull(source, "source");
+        this.offset = source.nanoTime();
+        this.now = 0;
+        this.paused = false;
+    }
+
+    /**
+     * Échantillonner l'horloge source (une fois par frame)
+     */
+    public void update() {
+        if (!paused) {
+            now = source.nanoTime() - offset;
+        }
+    }
+
+    /**
+     * Figer le temps du jeu
+     */
+    public void pause() {
+        if (!paused) {
+            update();
+            paused = true;
+        }
+    }
+
+    /**
+     * Reprendre le temps du jeu là où il s'était arrêté
+     */
+    public void resume() {
+        if (paused) {
+            paused = false;
+            offset = source.nanoTime() - now;
+        }
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+}
@@ -0,0 +1,283 @@
+package org.example.snakegame.common;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Panneau de performances affiché par-dessus le canvas de jeu (touche F3)
+ *
+ * Dessiné sur son propre canvas transparent : le rendu du jeu (incrémental, pixels
+ * directs) n'est pas perturbé. Les durées de frame sont gardées dans un tampon
+ * circulaire pré-alloué et tracées à chaque pulse ; les textes (FPS, tick, tas, GC,
+ * débit d'allocation du thread JavaFX et du thread de simulation) ne sont reconstruits
+ * que quatre fois par seconde. Sans thread de simulation, les ticks s'exécutent sur le
+ * thread JavaFX et sont comptés dans sa ligne.
+ */
+public class PerformanceOverlay {
+
+    private static final int SAMPLE_COUNT = 120;                  // Deux secondes à 60 FPS
+    private static final long TEXT_REFRESH_NANOS = 250_000_000L;  // Textes rafraîchis à 4 Hz
+    private static final double FRAME_BUDGET_NANOS = 1_000_000_000.0 / 60;
+    private static final double GRAPH_MAX_NANOS = 3 * FRAME_BUDGET_NANOS;
+
+    private static final Font FONT = Font.font("Courier New", 12);
+    private static final Color BACKGROUND = Color.rgb(0, 0, 0, 0.65);
+    private static final Color TEXT_COLOR = Color.LIME;
+    private static final Color GRAPH_COLOR = Color.YELLOW;
+    private static final Color BUDGET_COLOR = Color.rgb(255, 80, 80, 0.8);
+
+    private static final double PANEL_X = 10;
+    private static final double PANEL_Y = 10;
+    private static final double PANEL_WIDTH = 300;
+    private static final double LINE_HEIGHT = 15;
+    private static final double GRAPH_HEIGHT = 40;
+    private static final int LINE_COUNT = 5;
+    private static final double PANEL_HEIGHT = LINE_COUNT * LINE_HEIGHT + GRAPH_HEIGHT + 16;
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final LatencyHistogram tickHistogram;
+    private final AnimationTimer timer;
+
+    // Durées de frame (tampon circulaire) et points de la courbe, pré-alloués
+    private final long[] frameNanos = new long[SAMPLE_COUNT];
+    private final double[] graphX = new double[SAMPLE_COUNT];
+    private final double[] graphY = new double[SAMPLE_COUNT];
+    private int nextSample;
+    private int sampleCount;
+
+    // Textes affichés, reconstruits à chaque rafraîchissement seulement
+    private final String[] lines = new String[LINE_COUNT];
+    private final StringBuilder text = new StringBuilder(64);
+
+    // Sources JVM
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final com.sun.management.ThreadMXBean threads;
+    private final long fxThreadId;
+    private final LongSupplier simulationThreadId;
+
+    private long lastPulse = -1;
+    private long lastRefresh;
+    private long lastFxAllocatedBytes = -1;
+    private long lastSimulationAllocatedBytes = -1;
+    private long lastSimulationThreadId = -1;
+    private boolean visible;
+
+    /**
+     * Constructeur (depuis le thread JavaFX)
+     * @param canvas Canvas transparent superposé au canvas de jeu
+     * @param tickHistogram Durées des ticks de la simulation
+     * @param simulationThreadId Identifiant du thread de simulation, -1 sans thread dédié
+     */
+    public PerformanceOverlay(Canvas canvas, LatencyHistogram tickHistogram, LongSupplier simulationThreadId) {
+        this.canvas = ValidationUtils.requireNonNull(canvas, "canvas");
+        this.gc = canvas.getGraphicsContext2D();
+        this.tickHistogram = ValidationUtils.requireNonNull(tickHistogram, "tickHistogram");
+        this.simulationThreadId = ValidationUtils.requireNonNull(simulationThreadId, "simulationThreadId");
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        this.threads = threadBean instanceof com.sun.management.ThreadMXBean allocation
+                && allocation.isThreadAllocatedMemorySupported() ? allocation : null;
+        this.fxThreadId = Thread.currentThread().getId();
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulse(now);
+            }
+        };
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            graphX[i] = PANEL_X + 8 + i * (PANEL_WIDTH - 16) / (SAMPLE_COUNT - 1);
+        }
+        canvas.setMouseTransparent(true);
+        canvas.setVisible(false);
+    }
+
+    /**
+     * Afficher ou masquer le panneau
+     */
+    public void toggle() {
+        if (visible) {
+            hide();
+        } else {
+            show();
+        }
+    }
+
+    public void show() {
+        if (!visible) {
+            visible = true;
+            lastPulse = -1;
+            nextSample = 0;
+            sampleCount = 0;
+            lastRefresh = 0;
+            lastFxAllocatedBytes = -1;
+            lastSimulationAllocatedBytes = -1;
+            canvas.setVisible(true);
+            timer.start();
+        }
+    }
+
+    public void hide() {
+        if (visible) {
+            visible = false;
+            timer.stop();
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            canvas.setVisible(false);
+        }
+    }
+
+    /**
+     * Un pulse d'affichage : mesurer, rafraîchir les textes si besoin, dessiner
+     */
+    private void pulse(long now) {
+        if (lastPulse >= 0) {
+            frameNanos[nextSample] = now - lastPulse;
+            nextSample = (nextSample + 1) % SAMPLE_COUNT;
+            sampleCount = Math.min(sampleCount + 1, SAMPLE_COUNT);
+        }
+        lastPulse = now;
+
+        if (now - lastRefresh >= TEXT_REFRESH_NANOS) {
+            refreshText(now - lastRefresh);
+            lastRefresh = now;
+        }
+        draw();
+    }
+
+    private void refreshText(long elapsedNanos) {
+        long total = 0;
+        long worst = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            total += frameNanos[i];
+            worst = Math.max(worst, frameNanos[i]);
+        }
+        double fps = total > 0 ? sampleCount * 1e9 / total : 0;
+        double average = sampleCount > 0 ? (double) total / sampleCount : 0;
+
+        text.setLength(0);
+        text.append("FPS ");
+        appendDecimal(fps, 1);
+        text.append("  frame ");
+        appendMillis(average);
+        text.append(" max ");
+        appendMillis(worst);
+        lines[0] = text.toString();
+
+        text.setLength(0);
+        text.append("Tick moy ");
+        appendMillis(tickHistogram.getMean());
+        text.append(" p99 ");
+        appendMillis(tickHistogram.getValueAtPercentile(99));
+        lines[1] = text.toString();
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        text.setLength(0);
+        text.append("Tas ").append(memory.getHeapMemoryUsage().getUsed() >> 20).append(" Mo");
+        text.append("  GC ").append(gcCount).append(" (").append(gcMillis).append(" ms)");
+        lines[2] = text.toString();
+
+        text.setLength(0);
+        text.append("Alloc thread FX ");
+        lastFxAllocatedBytes = appendAllocationRate(fxThreadId, lastFxAllocatedBytes, elapsedNanos);
+        lines[3] = text.toString();
+
+        text.setLength(0);
+        text.append("Alloc thread simu ");
+        long simulationId = simulationThreadId.getAsLong();
+        if (simulationId != lastSimulationThreadId) {
+            lastSimulationThreadId = simulationId; // Nouveau thread : pas de mesure précédente
+            lastSimulationAllocatedBytes = -1;
+        }
+        if (simulationId < 0) {
+            text.append("aucun"); // Ticks exécutés sur le thread FX
+        } else {
+            lastSimulationAllocatedBytes = appendAllocationRate(simulationId, lastSimulationAllocatedBytes, elapsedNanos);
+        }
+        lines[4] = text.toString();
+    }
+
+    /**
+     * Ajouter le débit d'allocation d'un thread depuis la mesure précédente
+     * @param lastAllocated Octets alloués à la mesure précédente, -1 si aucune
+     * @return Octets alloués à cette mesure, -1 si indisponible
+     */
+    private long appendAllocationRate(long threadId, long lastAllocated, long elapsedNanos) {
+        long allocated = threads != null ? threads.getThreadAllocatedBytes(threadId) : -1;
+        if (allocated < 0) {
+            text.append("indisponible"); // Mesure non supportée ou thread terminé
+        } else if (lastAllocated >= 0 && elapsedNanos > 0) {
+            appendDecimal((allocated - lastAllocated) * 1e9 / elapsedNanos / (1 << 20), 2);
+            text.append(" Mo/s");
+        } else {
+            text.append("...");
+        }
+        return allocated;
+    }
+
+    private void draw() {
+        gc.clearRect(PANEL_X, PANEL_Y, PANEL_WIDTH, PANEL_HEIGHT);
+        gc.setFill(BACKGROUND);
+        gc.fillRect(PANEL_X, PANEL_Y, PANEL_WIDTH, PANEL_HEIGHT);
+
+        gc.setFill(TEXT_COLOR);
+        gc.setFont(FONT);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            if (lines[i] != null) {
+                gc.fillText(lines[i], PANEL_X + 8, PANEL_Y + 16 + i * LINE_HEIGHT);
+            }
+        }
+
+        // Courbe des durées de frame, de la plus ancienne à la plus récente
+        double graphBottom = PANEL_Y + PANEL_HEIGHT - 6;
+        double budgetY = graphBottom - FRAME_BUDGET_NANOS / GRAPH_MAX_NANOS * GRAPH_HEIGHT;
+        gc.setStroke(BUDGET_COLOR);
+        gc.setLineWidth(1);
+        gc.strokeLine(PANEL_X + 8, budgetY, PANEL_X + PANEL_WIDTH - 8, budgetY);
+
+        int oldest = (nextSample - sampleCount + SAMPLE_COUNT) % SAMPLE_COUNT;
+        for (int i = 0; i < sampleCount; i++) {
+            double nanos = Math.min(frameNanos[(oldest + i) % SAMPLE_COUNT], GRAPH_MAX_NANOS);
+            graphY[i] = graphBottom - nanos / GRAPH_MAX_NANOS * GRAPH_HEIGHT;
+        }
+        if (sampleCount > 1) {
+            gc.setStroke(GRAPH_COLOR);
+            gc.strokePolyline(graphX, graphY, sampleCount);
+        }
+    }
+
+    private void appendMillis(double nanos) {
+        appendDecimal(nanos / 1_000_000.0, 2);
+        text.append(" ms");
+    }
+
+    /**
+     * Ajouter un nombre décimal sans passer par String.format
+     */
+    private void appendDecimal(double value, int decimals) {
+        long scale = decimals == 1 ? 10 : 100;
+        long scaled = Math.round(Math.max(0, value) * scale);
+        text.append(scaled / scale).append('.');
+        long fraction = scaled % scale;
+        if (decimals == 2 && fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+
+    public boolean isVisible() { return visible; }
+}
@@ -0,0 +1,297 @@
+package org.example.snakegame.common;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.util.Callback;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Surface de rendu en pixels directs
+ *
+ * Un {@link IntBuffer} direct (format ARGB prémultiplié) partagé avec un
+ * {@link PixelBuffer} JavaFX : les cellules et sprites sont écrits directement en
+ * mémoire, sans passer par les appels vectoriels du GraphicsContext. Seules les zones
+ * modifiées depuis le dernier {@link #commit()} sont signalées à JavaFX (et donc
+ * retransférées vers la carte graphique) : elles sont suivies comme une petite liste
+ * de rectangles, fusionnés seulement quand ils se touchent, pour que deux éléments
+ * éloignés (les deux raquettes, la tête et la queue du serpent) ne se traduisent pas
+ * par l'envoi de toute la surface.
+ *
+ * {@link #commit()} doit être appelé depuis le thread JavaFX.
+ */
+public class PixelSurface {
+
+    private static final int MAX_DIRTY_RECTS = 16;
+
+    private final int width;
+    private final int height;
+    private final IntBuffer buffer;
+    private final PixelBuffer<IntBuffer> pixelBuffer;
+    private final WritableImage image;
+
+    // Zones sales (minX, minY, maxX, maxY ; bornes max exclusives)
+    private final int[] dirtyRects = new int[MAX_DIRTY_RECTS * 4];
+    private int dirtyRectCount;
+
+    // Rectangles déjà signalés à JavaFX, réutilisés tant que les bornes d'une case ne changent pas
+    private final Rectangle2D[] committedRects = new Rectangle2D[MAX_DIRTY_RECTS];
+    private final int[] committedBounds = new int[MAX_DIRTY_RECTS * 4];
+    // Case en cours de signalement, lue par le callback unique de updateBuffer
+    private int commitIndex;
+    private final Callback<PixelBuffer<IntBuffer>, Rectangle2D> commitRegion =
+            updated -> committedRects[commitIndex];
+
+    /**
+     * Constructeur
+     * @param width Largeur en pixels
+     * @param height Hauteur en pixels
+     */
+    public PixelSurface(int width, int height) {
+        this.width = ValidationUtils.requirePositive(width, "width");
+        this.height = ValidationUtils.requirePositive(height, "height");
+        this.buffer = ByteBuffer.allocateDirect(width * height * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+        this.pixelBuffer = new PixelBuffer<>(width, height, buffer, PixelFormat.getIntArgbPreInstance());
+        this.image = new WritableImage(pixelBuffer);
+    }
+
+    /**
+     * Remplir un rectangle d'une couleur opaque
+     * @param argb Couleur ARGB prémultipliée
+     */
+    public void fillRect(int x, int y, int w, int h, int argb) {
+        int x0 = Math.max(0, x);
+        int y0 = Math.max(0, y);
+        int x1 = Math.min(width, x + w);
+        int y1 = Math.min(height, y + h);
+        if (x0 >= x1 || y0 >= y1) {
+            return;
+        }
+        for (int py = y0; py < y1; py++) {
+            int row = py * width;
+            for (int px = x0; px < x1; px++) {
+                buffer.put(row + px, argb);
+            }
+        }
+        markDirty(x0, y0, x1, y1);
+    }
+
+    /**
+     * Copier une zone depuis un calque de même taille que la surface (restauration du fond)
+     * @param source Pixels du calque, largeur = largeur de la surface
+     */
+    public void copyRegion(int[] source, int x, int y, int w, int h) {
+        int x0 = Math.max(0, x);
+        int y0 = Math.max(0, y);
+        int x1 = Math.min(width, x + w);
+        int y1 = Math.min(height, y + h);
+        if (x0 >= x1 || y0 >= y1) {
+            return;
+        }
+        for (int py = y0; py < y1; py++) {
+            int offset = py * width + x0;
+            buffer.put(offset, source, offset, x1 - x0);
+        }
+        markDirty(x0, y0, x1, y1);
+    }
+
+    /**
+     * Copier un calque entier de même taille que la surface
+     */
+    public void copyAll(int[] source) {
+        buffer.put(0, source, 0, width * height);
+        markDirty(0, 0, width, height);
+    }
+
+    /**
+     * Dessiner un sprite (composition "source over")
+     * @param sprite Pixels ARGB prémultipliés du sprite
+     */
+    public void blit(int[] sprite, int spriteWidth, int spriteHeight, int x, int y) {
+        blit(sprite, spriteWidth, spriteHeight, x, y, 1.0);
+    }
+
+    /**
+     * Dessiner un sprite avec une opacité globale
+     * @param opacity Opacité entre 0 et 1
+     */
+    public void blit(int[] sprite, int spriteWidth, int spriteHeight, int x, int y, double opacity) {
+        int x0 = Math.max(0, x);
+        int y0 = Math.max(0, y);
+        int x1 = Math.min(width, x + spriteWidth);
+        int y1 = Math.min(height, y + spriteHeight);
+        if (x0 >= x1 || y0 >= y1) {
+            return;
+        }
+        int scale = (int) Math.round(Math.max(0, Math.min(1, opacity)) * 256);
+        for (int py = y0; py < y1; py++) {
+            int row = py * width;
+            int spriteRow = (py - y) * spriteWidth - x;
+            for (int px = x0; px < x1; px++) {
+                int source = sprite[spriteRow + px];
+                if (source != 0) {
+                    buffer.put(row + px, blend(source, buffer.get(row + px), scale));
+                }
+            }
+        }
+        markDirty(x0, y0, x1, y1);
+    }
+
+    /**
+     * Remplir un disque (traînées, particules)
+     * @param argb Couleur ARGB prémultipliée
+     * @param opacity Opacité entre 0 et 1
+     */
+    public void fillCircle(double centerX, double centerY, double radius, int argb, double opacity) {
+        int x0 = Math.max(0, (int) Math.floor(centerX - radius));
+        int y0 = Math.max(0, (int) Math.floor(centerY - radius));
+        int x1 = Math.min(width, (int) Math.ceil(centerX + radius));
+        int y1 = Math.min(height, (int) Math.ceil(centerY + radius));
+        if (x0 >= x1 || y0 >= y1) {
+            return;
+        }
+        int scale = (int) Math.round(Math.max(0, Math.min(1, opacity)) * 256);
+        double radiusSquared = radius * radius;
+        for (int py = y0; py < y1; py++) {
+            double dy = py + 0.5 - centerY;
+            int row = py * width;
+            for (int px = x0; px < x1; px++) {
+                double dx = px + 0.5 - centerX;
+                if (dx * dx + dy * dy <= radiusSquared) {
+                    buffer.put(row + px, blend(argb, buffer.get(row + px), scale));
+                }
+            }
+        }
+        markDirty(x0, y0, x1, y1);
+    }
+
+    /**
+     * Signaler à JavaFX chacune des zones modifiées depuis le dernier commit
+     *
+     * Un appel à updateBuffer par zone plutôt qu'un seul pour leur union : l'union de deux
+     * zones éloignées renverrait tout ce qui les sépare. Les appels successifs sont sûrs dans
+     * un même pulse : dessin et commit se font sur le thread JavaFX, qui ne synchronise
+     * l'image avec la carte graphique qu'après, le tampon est donc complet à chaque appel.
+     * Ni rectangle ni lambda alloués tant que les zones d'une case restent les mêmes.
+     */
+    public void commit() {
+        for (int i = 0; i < dirtyRectCount; i++) {
+            int offset = i * 4;
+            if (committedRects[i] == null
+                    || committedBounds[offset] != dirtyRects[offset]
+                    || committedBounds[offset + 1] != dirtyRects[offset + 1]
+                    || committedBounds[offset + 2] != dirtyRects[offset + 2]
+                    || committedBounds[offset + 3] != dirtyRects[offset + 3]) {
+                System.arraycopy(dirtyRects, offset, committedBounds, offset, 4);
+                committedRects[i] = new Rectangle2D(dirtyRects[offset], dirtyRects[offset + 1],
+                        dirtyRects[offset + 2] - dirtyRects[offset], dirtyRects[offset + 3] - dirtyRects[offset + 1]);
+            }
+            commitIndex = i;
+            pixelBuffer.updateBuffer(commitRegion);
+        }
+        dirtyRectCount = 0;
+    }
+
+    /**
+     * Image JavaFX affichant la surface
+     */
+    public WritableImage getImage() {
+        return image;
+    }
+
+    /**
+     * Composition "source over" en ARGB prémultiplié
+     * @param scale Opacité globale sur 256
+     */
+    private static int blend(int source, int destination, int scale) {
+        if (scale < 256) {
+            source = scale(source, scale);
+        }
+        int sourceAlpha = source >>> 24;
+        if (sourceAlpha == 255) {
+            return source;
+        }
+        return source + scale(destination, 256 - sourceAlpha - (sourceAlpha >>> 7));
+    }
+
+    private static int scale(int argb, int factor) {
+        int ag = ((argb >>> 8) & 0x00FF00FF) * factor & 0xFF00FF00;
+        int rb = ((argb & 0x00FF00FF) * factor >>> 8) & 0x00FF00FF;
+        return ag | rb;
+    }
+
+    /**
+     * Ajouter une zone sale : fusionnée avec une zone qu'elle touche, sinon ajoutée à la
+     * liste ; liste pleine, fusionnée avec la zone dont l'aire grossit le moins
+     */
+    private void markDirty(int x0, int y0, int x1, int y1) {
+        int target = -1;
+        long smallestGrowth = Long.MAX_VALUE;
+        for (int i = 0; i < dirtyRectCount; i++) {
+            int offset = i * 4;
+            if (x0 <= dirtyRects[offset + 2] && dirtyRects[offset] <= x1
+                    && y0 <= dirtyRects[offset + 3] && dirtyRects[offset + 1] <= y1) {
+                target = i;
+                break;
+            }
+            if (dirtyRectCount == MAX_DIRTY_RECTS) {
+                long growth = area(Math.min(x0, dirtyRects[offset]), Math.min(y0, dirtyRects[offset + 1]),
+                        Math.max(x1, dirtyRects[offset + 2]), Math.max(y1, dirtyRects[offset + 3]))
+                        - area(dirtyRects[offset], dirtyRects[offset + 1], dirtyRects[offset + 2], dirtyRects[offset + 3]);
+                if (growth < smallestGrowth) {
+                    smallestGrowth = growth;
+                    target = i;
+                }
+            }
+        }
+
+        if (target < 0) {
+            int offset = dirtyRectCount++ * 4;
+            dirtyRects[offset] = x0;
+            dirtyRects[offset + 1] = y0;
+            dirtyRects[offset + 2] = x1;
+            dirtyRects[offset + 3] = y1;
+            return;
+        }
+        int offset = target * 4;
+        dirtyRects[offset] = Math.min(dirtyRects[offset], x0);
+        dirtyRects[offset + 1] = Math.min(dirtyRects[offset + 1], y0);
+        dirtyRects[offset + 2] = Math.max(dirtyRects[offset + 2], x1);
+        dirtyRects[offset + 3] = Math.max(dirtyRects[offset + 3], y1);
+    }
+
+    private static long area(int x0, int y0, int x1, int y1) {
+        return (long) (x1 - x0) * (y1 - y0);
+    }
+
+    /**
+     * Convertir une couleur JavaFX en ARGB prémultiplié
+     */
+    public static int toArgb(Color color) {
+        int a = (int) Math.round(color.getOpacity() * 255);
+        int r = (int) Math.round(color.getRed() * color.getOpacity() * 255);
+        int g = (int) Math.round(color.getGreen() * color.getOpacity() * 255);
+        int b = (int) Math.round(color.getBlue() * color.getOpacity() * 255);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * Lire une zone d'image en ARGB prémultiplié
+     */
+    public static int[] readPixels(Image image, int x, int y, int w, int h) {
+        int[] pixels = new int[w * h];
+        image.getPixelReader().getPixels(x, y, w, h, PixelFormat.getIntArgbPreInstance(), pixels, 0, w);
+        return pixels;
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
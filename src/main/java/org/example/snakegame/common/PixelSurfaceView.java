@@ -0,0 +1,78 @@
+package org.example.snakegame.common;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.ImageView;
+
+import java.util.List;
+
+/**
+ * Affichage d'une {@link PixelSurface} dans une {@link ImageView} placée sous le canvas de jeu
+ *
+ * L'ImageView affiche directement l'image de la surface : JavaFX ne retransfère que les
+ * zones signalées par {@link PixelSurface#commit()}, au lieu de recopier toute l'image
+ * sur le canvas à chaque pulse. Le canvas, rendu transparent, ne porte plus que les
+ * textes en surimpression.
+ *
+ * Tant que la vue est affichée, elle reprend les classes de style du canvas (bordure
+ * lumineuse) : appliquées au canvas transparent, elles feraient briller les textes.
+ *
+ * Doit être utilisé depuis le thread JavaFX.
+ */
+public class PixelSurfaceView {
+
+    private final PixelSurface surface;
+    private final ImageView view;
+    private final Canvas canvas;
+    // Classes de style déplacées du canvas vers la vue
+    private List<String> movedStyleClasses = List.of();
+
+    /**
+     * Constructeur
+     * @param surface Surface à afficher
+     * @param view ImageView placée sous le canvas, en haut à gauche
+     * @param canvas Canvas de jeu, superposé à la vue
+     */
+    public PixelSurfaceView(PixelSurface surface, ImageView view, Canvas canvas) {
+        this.surface = ValidationUtils.requireNonNull(surface, "surface");
+        this.view = ValidationUtils.requireNonNull(view, "view");
+        this.canvas = ValidationUtils.requireNonNull(canvas, "canvas");
+        view.setImage(surface.getImage());
+        view.setVisible(false);
+    }
+
+    /**
+     * Afficher la surface sous le canvas
+     */
+    public void show() {
+        if (view.isVisible()) {
+            return;
+        }
+        movedStyleClasses = List.copyOf(canvas.getStyleClass());
+        view.getStyleClass().addAll(movedStyleClasses);
+        canvas.getStyleClass().removeAll(movedStyleClasses);
+        view.setVisible(true);
+    }
+
+    /**
+     * Masquer la surface et rendre ses classes de style au canvas
+     */
+    public void hide() {
+        if (!view.isVisible()) {
+            return;
+        }
+        canvas.getStyleClass().addAll(movedStyleClasses);
+        view.getStyleClass().removeAll(movedStyleClasses);
+        movedStyleClasses = List.of();
+        view.setVisible(false);
+    }
+
+    /**
+     * Effacer le canvas de jeu pour laisser voir la surface
+     */
+    public void clearCanvas() {
+        canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    public boolean isShown() { return view.isVisible(); }
+    public PixelSurface getSurface() { return surface; }
+}
@@ -1,6 +1,6 @@
 package org.example.snakegame.common;
 
-import java.util.Objects;
+import java.util.random.RandomGenerator;
 
 /**
  * Classe représentant une position (x, y) sur la grille de jeu
@@ -9,6 +9,9 @@ import java.util.Objects;
  * Note: Les champs x et y sont publics ET final (immuable)
  * C'est un compromis acceptable pour la performance et la simplicité
  * Des getters sont fournis pour une meilleure encapsulation future
+ *
+ * Les chemins chauds manipulent des cellules encodées ({@link PackedCoords}) et des
+ * instances canoniques ({@link PointCache}) ; Point reste le type des API publiques.
  */
 public class Point {
     public final int x;
@@ -116,7 +119,7 @@ public class Point {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * x + y;
     }
 
     /**
@@ -134,8 +137,16 @@ public class Point {
      * @return Point aléatoire
      */
     public static Point random(int width, int height) {
-        int randomX = (int) (Math.random() * width);
-        int randomY = (int) (Math.random() * height);
+        return random(width, height, GameRandom.current());
+    }
+
+    /**
+     * Créer un point aléatoire avec un générateur donné
+     * @param random Générateur à utiliser
+     */
+    public static Point random(int width, int height, RandomGenerator random) {
+        int randomX = random.nextInt(width);
+        int randomY = random.nextInt(height);
         return new Point(randomX, randomY);
     }
 
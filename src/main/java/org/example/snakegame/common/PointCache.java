@@ -0,0 +1,79 @@
+package org.example.snakegame.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache des instances canoniques de {@link Point} pour un plateau donné
+ *
+ * Chaque cellule du plateau a une seule instance de Point, créée une fois :
+ * les chemins chauds (tête du serpent, nourriture) ne produisent plus de Point jetables.
+ * Les coordonnées hors du plateau renvoient une nouvelle instance (cas rare).
+ */
+public final class PointCache {
+
+    // Un cache partagé par dimensions de plateau
+    private static final Map<Long, PointCache> BOARDS = new ConcurrentHashMap<>();
+
+    private final int width;
+    private final int height;
+    private final Point[] points;
+
+    /**
+     * Constructeur
+     * @param width Largeur du plateau en cellules
+     * @param height Hauteur du plateau en cellules
+     */
+    public PointCache(int width, int height) {
+        this.width = ValidationUtils.requirePositive(width, "width");
+        this.height = ValidationUtils.requirePositive(height, "height");
+        this.points = new Point[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                points[y * width + x] = new Point(x, y);
+            }
+        }
+    }
+
+    /**
+     * Obtenir le cache partagé pour un plateau de dimensions données
+     */
+    public static PointCache forBoard(int width, int height) {
+        return BOARDS.computeIfAbsent(PackedCoords.packLong(width, height),
+                key -> new PointCache(width, height));
+    }
+
+    /**
+     * Obtenir le Point canonique de la cellule (x, y)
+     */
+    public Point get(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            return points[y * width + x];
+        }
+        return new Point(x, y);
+    }
+
+    /**
+     * Obtenir le Point canonique d'une cellule encodée par {@link PackedCoords}
+     */
+    public Point get(int packed) {
+        return get(PackedCoords.x(packed), PackedCoords.y(packed));
+    }
+
+    /**
+     * Obtenir le Point canonique d'une cellule par son index linéaire (y * width + x)
+     */
+    public Point getByIndex(int cellIndex) {
+        return points[cellIndex];
+    }
+
+    /**
+     * Voisin canonique d'un point dans une direction
+     */
+    public Point neighbour(Point point, Direction direction) {
+        return get(point.x + direction.getDeltaX(), point.y + direction.getDeltaY());
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
@@ -0,0 +1,45 @@
+package org.example.snakegame.common;
+
+/**
+ * Backends de rendu disponibles, sélectionnables à l'exécution
+ */
+public enum RenderBackend {
+    CANVAS("GraphicsContext"),       // Appels vectoriels sur le Canvas
+    PIXEL_BUFFER("PixelBuffer");     // Écriture directe des pixels
+
+    /** Propriété système pour choisir le backend au démarrage (canvas ou pixel_buffer) */
+    public static final String PROPERTY = "arcade.renderer";
+
+    private final String displayName;
+
+    RenderBackend(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Backend demandé par la propriété système (CANVAS par défaut)
+     */
+    public static RenderBackend fromSystemProperty() {
+        String value = System.getProperty(PROPERTY);
+        if (value != null) {
+            for (RenderBackend backend : values()) {
+                if (backend.name().equalsIgnoreCase(value.trim())) {
+                    return backend;
+                }
+            }
+        }
+        return CANVAS;
+    }
+
+    /**
+     * Backend suivant (bascule à l'exécution)
+     */
+    public RenderBackend next() {
+        RenderBackend[] backends = values();
+        return backends[(ordinal() + 1) % backends.length];
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.snakegame.common;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.stage.Screen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Atlas de sprites pré-rastérisés
+ *
+ * Les sprites sont déclarés une fois (taille + dessin), rangés par étagères dans une
+ * seule image, puis rastérisés au premier affichage. Le rendu d'une frame se limite
+ * ensuite à des {@code drawImage} depuis l'atlas : ni Color, ni Font, ni chemin
+ * vectoriel recréés à chaque frame.
+ *
+ * L'atlas est rastérisé à l'échelle de sortie de l'écran principal (HiDPI, Retina) ;
+ * les sprites sont dessinés à leur taille logique et restent nets. Les pixels du rendu
+ * direct ({@link #getPixels(Sprite)}) sont lus dans une rastérisation à l'échelle 1.
+ *
+ * Doit être rastérisé depuis le thread JavaFX (capture par snapshot).
+ */
+public class SpriteAtlas {
+
+    private static final int PADDING = 1; // Évite le débordement entre sprites voisins
+
+    /**
+     * Emplacement d'un sprite dans l'atlas
+     */
+    public static final class Sprite {
+        public final int x;
+        public final int y;
+        public final int width;
+        public final int height;
+        private final Consumer<GraphicsContext> painter;
+        private int[] pixels; // Copie ARGB prémultipliée (rendu en pixels directs)
+
+        private Sprite(int x, int y, int width, int height, Consumer<GraphicsContext> painter) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.painter = painter;
+        }
+    }
+
+    private final int maxWidth;
+    private final List<Sprite> sprites = new ArrayList<>();
+    private int cursorX;
+    private int cursorY;
+    private int rowHeight;
+    private WritableImage image;
+    private WritableImage pixelImage; // Échelle 1, pour le rendu en pixels directs
+    private double scaleX = 1;
+    private double scaleY = 1;
+
+    /**
+     * Constructeur
+     * @param maxWidth Largeur maximale de l'atlas en pixels
+     */
+    public SpriteAtlas(int maxWidth) {
+        this.maxWidth = ValidationUtils.requirePositive(maxWidth, "maxWidth");
+    }
+
+    /**
+     * Déclarer un sprite
+     * @param width Largeur en pixels
+     * @param height Hauteur en pixels
+     * @param painter Dessin du sprite, avec l'origine en haut à gauche du sprite
+     * @return Emplacement réservé dans l'atlas
+     */
+    public Sprite add(int width, int height, Consumer<GraphicsContext> painter) {
+        ValidationUtils.requireInRange(width, 1, maxWidth, "width");
+        ValidationUtils.requirePositive(height, "height");
+        ValidationUtils.requireNonNull(painter, "painter");
+
+        // Nouvelle étagère si la ligne courante est pleine
+        if (cursorX + width > maxWidth) {
+            cursorX = 0;
+            cursorY += rowHeight + PADDING;
+            rowHeight = 0;
+        }
+
+        Sprite sprite = new Sprite(cursorX, cursorY, width, height, painter);
+        sprites.add(sprite);
+        cursorX += width + PADDING;
+        rowHeight = Math.max(rowHeight, height);
+        image = null;
+        pixelImage = null;
+        return sprite;
+    }
+
+    /**
+     * Dessiner un sprite à la position donnée (taille d'origine)
+     */
+    public void draw(GraphicsContext gc, Sprite sprite, double x, double y) {
+        draw(gc, sprite, x, y, sprite.width, sprite.height);
+    }
+
+    /**
+     * Dessiner un sprite mis à l'échelle
+     */
+    public void draw(GraphicsContext gc, Sprite sprite, double x, double y, double width, double height) {
+        WritableImage atlasImage = getImage();
+        gc.drawImage(atlasImage, sprite.x * scaleX, sprite.y * scaleY, sprite.width * scaleX, sprite.height * scaleY,
+                x, y, width, height);
+    }
+
+    /**
+     * Pixels ARGB prémultipliés d'un sprite (lus une fois dans l'atlas, puis en cache)
+     */
+    public int[] getPixels(Sprite sprite) {
+        if (sprite.pixels == null) {
+            if (pixelImage == null) {
+                pixelImage = rasterize(1, 1);
+            }
+            sprite.pixels = PixelSurface.readPixels(pixelImage, sprite.x, sprite.y, sprite.width, sprite.height);
+        }
+        return sprite.pixels;
+    }
+
+    /**
+     * Forcer la rastérisation à la prochaine utilisation (changement de thème)
+     */
+    public void invalidate() {
+        image = null;
+        pixelImage = null;
+        for (Sprite sprite : sprites) {
+            sprite.pixels = null;
+        }
+    }
+
+    /**
+     * Obtenir l'image de l'atlas, rastérisée si nécessaire
+     */
+    public WritableImage getImage() {
+        if (image == null) {
+            Screen screen = Screen.getPrimary();
+            scaleX = screen.getOutputScaleX();
+            scaleY = screen.getOutputScaleY();
+            image = rasterize(scaleX, scaleY);
+        }
+        return image;
+    }
+
+    /**
+     * Dessiner tous les sprites dans un canvas agrandi à l'échelle donnée, puis le capturer
+     */
+    private WritableImage rasterize(double scaleX, double scaleY) {
+        int height = Math.max(1, cursorY + rowHeight);
+        Canvas canvas = new Canvas(Math.ceil(maxWidth * scaleX), Math.ceil(height * scaleY));
+        GraphicsContext atlasGc = canvas.getGraphicsContext2D();
+        atlasGc.scale(scaleX, scaleY);
+        for (Sprite sprite : sprites) {
+            atlasGc.save();
+            atlasGc.translate(sprite.x, sprite.y);
+            atlasGc.beginPath();
+            atlasGc.rect(0, 0, sprite.width, sprite.height);
+            atlasGc.clip();
+            sprite.painter.accept(atlasGc);
+            atlasGc.restore();
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null);
+    }
+
+    public int getSpriteCount() { return sprites.size(); }
+}
@@ -0,0 +1,14 @@
+package org.example.snakegame.common;
+
+/**
+ * Horloge temps réel (monotone) basée sur {@link System#nanoTime()}
+ * Pattern Singleton avec enum
+ */
+public enum SystemGameClock implements GameClock {
+    INSTANCE;
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.snakegame.common;
+
+/**
+ * Horloge pilotée par ticks
+ *
+ * Le temps n'avance que lorsqu'on appelle {@link #tick()} ou {@link #advance(long)} :
+ * une simulation sans affichage peut avancer aussi vite que le processeur le permet
+ * tout en voyant exactement les mêmes durées qu'en temps réel.
+ */
+public class TickClock implements GameClock {
+
+    private final long tickNanos;
+    private long now;
+    private long ticks;
+
+    /**
+     * Constructeur
+     * @param tickMillis Durée d'un tick en millisecondes
+     */
+    public TickClock(int tickMillis) {
+        this.tickNanos = ValidationUtils.requirePositive(tickMillis, "tickMillis") * 1_000_000L;
+        this.now = 0;
+        this.ticks = 0;
+    }
+
+    /**
+     * Avancer d'un tick
+     */
+    public void tick() {
+        now += tickNanos;
+        ticks++;
+    }
+
+    /**
+     * Avancer d'une durée arbitraire (avance rapide)
+     * @param nanos Durée en nanosecondes
+     */
+    public void advance(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("nanos cannot be negative");
+        }
+        now += nanos;
+    }
+
+    /**
+     * Avancer d'une durée en millisecondes
+     */
+    public void advanceMillis(long millis) {
+        advance(millis * 1_000_000L);
+    }
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    public long getTicks() { return ticks; }
+    public long getTickNanos() { return tickNanos; }
+}
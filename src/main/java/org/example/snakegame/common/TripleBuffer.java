@@ -0,0 +1,73 @@
+package org.example.snakegame.common;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Triple tampon sans verrou entre un producteur et un consommateur
+ *
+ * Trois instances pré-allouées tournent entre trois rôles : celle que le producteur
+ * remplit, celle que le consommateur lit, et une instance intermédiaire échangée de
+ * façon atomique. Aucun des deux côtés n'attend l'autre : le producteur publie autant
+ * de fois qu'il veut, le consommateur récupère toujours la dernière publication et les
+ * publications intermédiaires sont simplement écrasées.
+ *
+ * Un seul thread producteur et un seul thread consommateur à la fois.
+ */
+public class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100; // L'instance intermédiaire n'a pas encore été lue
+
+    private final Object[] slots;
+    private final AtomicInteger middle;
+    private int back;  // Instance du producteur
+    private int front; // Instance du consommateur
+
+    /**
+     * Constructeur
+     * @param factory Création des trois instances
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        ValidationUtils.requireNonNull(factory, "factory");
+        this.slots = new Object[] { factory.get(), factory.get(), factory.get() };
+        this.back = 0;
+        this.middle = new AtomicInteger(1);
+        this.front = 2;
+    }
+
+    /**
+     * Instance à remplir par le producteur
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) slots[back];
+    }
+
+    /**
+     * Publier l'instance remplie ; le producteur reçoit une instance libre en échange
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Récupérer la dernière publication côté consommateur
+     * @return true si une nouvelle instance est disponible depuis le dernier appel
+     */
+    public boolean update() {
+        if ((middle.get() & FRESH) == 0) {
+            return false;
+        }
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return true;
+    }
+
+    /**
+     * Instance à lire par le consommateur (dernière récupérée par {@link #update()})
+     */
+    @SuppressWarnings("unchecked")
+    public T getReadBuffer() {
+        return (T) slots[front];
+    }
+}
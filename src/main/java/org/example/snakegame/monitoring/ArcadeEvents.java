@@ -0,0 +1,26 @@
+package org.example.snakegame.monitoring;
+
+import jdk.jfr.EventType;
+
+/**
+ * Types des événements JFR du jeu
+ *
+ * Les points d'émission testent {@link EventType#isEnabled()} avant de créer un
+ * événement : sans enregistrement JFR actif (ou avec l'événement désactivé), aucune
+ * instance n'est allouée et le coût se limite à ce test.
+ */
+public final class ArcadeEvents {
+
+    public static final EventType GAME_TICK = EventType.getEventType(GameTickEvent.class);
+    public static final EventType RENDER_PASS = EventType.getEventType(RenderPassEvent.class);
+    public static final EventType COLLISION = EventType.getEventType(CollisionEvent.class);
+    public static final EventType FOOD_SPAWN = EventType.getEventType(FoodSpawnEvent.class);
+    public static final EventType GOAL = EventType.getEventType(GoalEvent.class);
+    public static final EventType GAME_STATE_CHANGE = EventType.getEventType(GameStateChangeEvent.class);
+    public static final EventType SCORE_SAVE = EventType.getEventType(ScoreSaveEvent.class);
+    public static final EventType SOUND_EFFECT = EventType.getEventType(SoundEffectEvent.class);
+
+    private ArcadeEvents() {
+        // Classe utilitaire
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.snakegame.monitoring;
+
+import org.example.snakegame.common.AbstractGameController;
+import org.example.snakegame.common.LatencyHistogram;
+
+/**
+ * MBean de la boucle de jeu : lit les mesures du contrôleur actuellement ouvert
+ *
+ * Un seul objet est enregistré au démarrage ; les contrôleurs s'y attachent à la
+ * création de leur boucle et s'en détachent à leur libération.
+ */
+public class ArcadeGameLoop implements ArcadeGameLoopMBean {
+
+    private volatile AbstractGameController controller;
+
+    /**
+     * Exposer un contrôleur (remplace le précédent)
+     */
+    public void attach(AbstractGameController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Contrôleur actuellement exposé, null hors partie (fermeture de l'application)
+     */
+    public AbstractGameController getAttachedController() {
+        return controller;
+    }
+
+    /**
+     * Ne plus exposer un contrôleur, s'il est toujours celui attaché
+     */
+    public void detach(AbstractGameController controller) {
+        if (this.controller == controller) {
+            this.controller = null;
+        }
+    }
+
+    @Override
+    public String getGameName() {
+        AbstractGameController current = controller;
+        return current == null ? "" : current.getGameName();
+    }
+
+    @Override
+    public String getState() {
+        AbstractGameController current = controller;
+        return current == null ? "" : current.getGameState().name();
+    }
+
+    @Override
+    public boolean isSimulationThreaded() {
+        AbstractGameController current = controller;
+        return current != null && current.isSimulationThreaded();
+    }
+
+    @Override
+    public double getTargetTickRate() {
+        AbstractGameController current = controller;
+        return current == null ? 0 : current.getTargetTickRate();
+    }
+
+    @Override
+    public double getTickRate() {
+        AbstractGameController current = controller;
+        if (current == null) {
+            return 0;
+        }
+        double meanInterval = current.getTickIntervalHistogram().getMean();
+        return meanInterval > 0 ? 1_000_000_000.0 / meanInterval : 0;
+    }
+
+    @Override
+    public long getTickCount() {
+        LatencyHistogram ticks = tickHistogram();
+        return ticks == null ? 0 : ticks.getCount();
+    }
+
+    @Override
+    public double getTickMeanMicros() {
+        LatencyHistogram ticks = tickHistogram();
+        return ticks == null ? 0 : ticks.getMean() / 1000.0;
+    }
+
+    @Override
+    public double getTickP50Micros() {
+        return percentileMicros(tickHistogram(), 50);
+    }
+
+    @Override
+    public double getTickP99Micros() {
+        return percentileMicros(tickHistogram(), 99);
+    }
+
+    @Override
+    public double getTickP999Micros() {
+        return percentileMicros(tickHistogram(), 99.9);
+    }
+
+    @Override
+    public double getTickMaxMicros() {
+        LatencyHistogram ticks = tickHistogram();
+        return ticks == null ? 0 : ticks.getMax() / 1000.0;
+    }
+
+    @Override
+    public long getRenderCount() {
+        LatencyHistogram renders = renderHistogram();
+        return renders == null ? 0 : renders.getCount();
+    }
+
+    @Override
+    public double getRenderMeanMicros() {
+        LatencyHistogram renders = renderHistogram();
+        return renders == null ? 0 : renders.getMean() / 1000.0;
+    }
+
+    @Override
+    public double getRenderP50Micros() {
+        return percentileMicros(renderHistogram(), 50);
+    }
+
+    @Override
+    public double getRenderP99Micros() {
+        return percentileMicros(renderHistogram(), 99);
+    }
+
+    @Override
+    public double getRenderMaxMicros() {
+        LatencyHistogram renders = renderHistogram();
+        return renders == null ? 0 : renders.getMax() / 1000.0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        AbstractGameController current = controller;
+        if (current != null) {
+            current.getTickHistogram().reset();
+            current.getRenderHistogram().reset();
+            current.getTickIntervalHistogram().reset();
+        }
+    }
+
+    private LatencyHistogram tickHistogram() {
+        AbstractGameController current = controller;
+        return current == null ? null : current.getTickHistogram();
+    }
+
+    private LatencyHistogram renderHistogram() {
+        AbstractGameController current = controller;
+        return current == null ? null : current.getRenderHistogram();
+    }
+
+    private static double percentileMicros(LatencyHistogram histogram, double percentile) {
+        return histogram == null ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.snakegame.monitoring;
+
+/**
+ * Interface JMX de la boucle de jeu en cours
+ * Durées en microsecondes ; valeurs nulles quand aucune partie n'est ouverte.
+ */
+public interface ArcadeGameLoopMBean {
+
+    /** Nom du jeu ouvert, vide au menu */
+    String getGameName();
+
+    /** État de la partie (PLAYING, PAUSED...), vide au menu */
+    String getState();
+
+    boolean isSimulationThreaded();
+
+    /** Fréquence de tick visée (ticks par seconde) */
+    double getTargetTickRate();
+
+    /** Fréquence de tick mesurée, d'après l'intervalle moyen entre deux ticks */
+    double getTickRate();
+
+    long getTickCount();
+    double getTickMeanMicros();
+    double getTickP50Micros();
+    double getTickP99Micros();
+    double getTickP999Micros();
+    double getTickMaxMicros();
+
+    long getRenderCount();
+    double getRenderMeanMicros();
+    double getRenderP50Micros();
+    double getRenderP99Micros();
+    double getRenderMaxMicros();
+
+    /** Vider les histogrammes de tick, de rendu et d'intervalle */
+    void resetStatistics();
+}
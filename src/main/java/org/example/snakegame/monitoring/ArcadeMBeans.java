@@ -0,0 +1,54 @@
+package org.example.snakegame.monitoring;
+
+import org.example.snakegame.MusicController;
+import org.example.snakegame.ScoreManager;
+import org.example.snakegame.common.GameLogger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Enregistrement des MBeans du jeu dans le serveur JMX de la plateforme
+ *
+ * Visibles dans JConsole ou VisualVM sous le domaine {@value #DOMAIN}.
+ */
+public final class ArcadeMBeans {
+
+    public static final String DOMAIN = "org.example.snakegame";
+
+    private static final GameLogger logger = GameLogger.getLogger(ArcadeMBeans.class);
+    private static final ArcadeGameLoop GAME_LOOP = new ArcadeGameLoop();
+    private static boolean registered;
+
+    private ArcadeMBeans() {
+        // Classe utilitaire
+    }
+
+    /**
+     * Enregistrer les MBeans (boucle de jeu, scores, audio), une seule fois
+     */
+    public static synchronized void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(GAME_LOOP, new ObjectName(DOMAIN + ":type=GameLoop"));
+            server.registerMBean(new ScoreStore(ScoreManager.INSTANCE), new ObjectName(DOMAIN + ":type=ScoreStore"));
+            server.registerMBean(new Audio(MusicController.INSTANCE), new ObjectName(DOMAIN + ":type=Audio"));
+            logger.info("📈 MBeans JMX enregistrés (%s)", DOMAIN);
+        } catch (JMException e) {
+            logger.error("❌ Erreur enregistrement MBeans JMX: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * MBean de la boucle de jeu, auquel les contrôleurs s'attachent
+     */
+    public static ArcadeGameLoop gameLoop() {
+        return GAME_LOOP;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.snakegame.monitoring;
+
+import org.example.snakegame.MusicController;
+
+/**
+ * MBean de l'audio, adossé au MusicController
+ */
+public class Audio implements AudioMBean {
+
+    private final MusicController musicController;
+
+    public Audio(MusicController musicController) {
+        this.musicController = musicController;
+    }
+
+    @Override
+    public boolean isInitialized() {
+        return musicController.isInitialized();
+    }
+
+    @Override
+    public boolean isMuted() {
+        return musicController.isMuted();
+    }
+
+    @Override
+    public int getLoadedClips() {
+        return musicController.getLoadedSoundEffects();
+    }
+
+    @Override
+    public long getPlayCount() {
+        return musicController.getSoundEffectPlays();
+    }
+
+    @Override
+    public double getPlaysPerSecond() {
+        return musicController.getSoundEffectRate();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return musicController.getSoundEffectFailures();
+    }
+
+    @Override
+    public String getCurrentMusic() {
+        MusicController.BackgroundMusic music = musicController.getCurrentMusic();
+        return music == null ? "" : music.name();
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.snakegame.monitoring;
+
+/**
+ * Interface JMX du contrôleur audio
+ */
+public interface AudioMBean {
+
+    boolean isInitialized();
+    boolean isMuted();
+
+    /** Nombre d'effets sonores chargés */
+    int getLoadedClips();
+
+    /** Nombre total d'effets sonores joués */
+    long getPlayCount();
+
+    /** Effets joués par seconde, moyenne sur les 10 dernières secondes complètes */
+    double getPlaysPerSecond();
+
+    /** Effets introuvables ou en erreur de lecture */
+    long getFailureCount();
+
+    String getCurrentMusic();
+}
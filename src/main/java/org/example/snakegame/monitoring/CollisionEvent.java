@@ -0,0 +1,28 @@
+package org.example.snakegame.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR : une collision (mur, corps du serpent, raquette)
+ */
+@Name("org.example.snakegame.Collision")
+@Label("Collision")
+@Category({"Arcade", "Jeu"})
+@Description("Collision détectée par la simulation")
+public class CollisionEvent extends jdk.jfr.Event {
+
+    @Label("Jeu")
+    public String game;
+
+    @Label("Type")
+    public String kind;
+
+    @Label("Longueur du serpent")
+    public int snakeLength;
+
+    @Label("Vitesse de la balle")
+    public double ballSpeed;
+}
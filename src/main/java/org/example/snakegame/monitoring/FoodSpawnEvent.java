@@ -0,0 +1,34 @@
+package org.example.snakegame.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR : apparition d'une nourriture Snake
+ */
+@Name("org.example.snakegame.FoodSpawn")
+@Label("Apparition de nourriture")
+@Category({"Arcade", "Jeu"})
+@Description("Nouvelle nourriture placée sur le plateau")
+public class FoodSpawnEvent extends jdk.jfr.Event {
+
+    @Label("Type")
+    public String foodType;
+
+    @Label("Cause")
+    public String reason;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Cellules libres")
+    public int freeCells;
+
+    @Label("Longueur du serpent")
+    public int snakeLength;
+}
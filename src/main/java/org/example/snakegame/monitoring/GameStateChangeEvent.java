@@ -0,0 +1,25 @@
+package org.example.snakegame.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR : changement d'état d'une partie
+ */
+@Name("org.example.snakegame.GameStateChange")
+@Label("Changement d'état")
+@Category({"Arcade", "Jeu"})
+@Description("Transition d'état d'un contrôleur de jeu")
+public class GameStateChangeEvent extends jdk.jfr.Event {
+
+    @Label("Jeu")
+    public String game;
+
+    @Label("État précédent")
+    public String previousState;
+
+    @Label("Nouvel état")
+    public String newState;
+}
@@ -0,0 +1,30 @@
+package org.example.snakegame.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Événement JFR : un tick de simulation
+ */
+@Name("org.example.snakegame.GameTick")
+@Label("Tick de jeu")
+@Category({"Arcade", "Boucle de jeu"})
+@Description("Durée d'un tick de simulation (Snake ou Pong)")
+public class GameTickEvent extends jdk.jfr.Event {
+
+    @Label("Jeu")
+    public String game;
+
+    @Label("Intervalle depuis le tick précédent")
+    @Timespan(Timespan.NANOSECONDS)
+    public long interval;
+
+    @Label("Longueur du serpent")
+    public int snakeLength;
+
+    @Label("Vitesse de la balle")
+    public double ballSpeed;
+}
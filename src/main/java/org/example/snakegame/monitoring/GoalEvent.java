@@ -0,0 +1,31 @@
+package org.example.snakegame.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR : un but marqué au Pong
+ */
+@Name("org.example.snakegame.Goal")
+@Label("But")
+@Category({"Arcade", "Jeu"})
+@Description("But marqué par le joueur ou par l'IA")
+public class GoalEvent extends jdk.jfr.Event {
+
+    @Label("But du joueur 1")
+    public boolean player1Scored;
+
+    @Label("Score joueur 1")
+    public int player1Score;
+
+    @Label("Score IA")
+    public int player2Score;
+
+    @Label("Vitesse de la balle")
+    public double ballSpeed;
+
+    @Label("Frames simulées")
+    public long frames;
+}
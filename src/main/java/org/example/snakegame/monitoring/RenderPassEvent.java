@@ -0,0 +1,22 @@
+package org.example.snakegame.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR : un rendu déclenché par le pulse d'affichage
+ */
+@Name("org.example.snakegame.RenderPass")
+@Label("Rendu")
+@Category({"Arcade", "Boucle de jeu"})
+@Description("Durée d'un rendu de frame sur le thread JavaFX")
+public class RenderPassEvent extends jdk.jfr.Event {
+
+    @Label("Jeu")
+    public String game;
+
+    @Label("Interpolation")
+    public double alpha;
+}
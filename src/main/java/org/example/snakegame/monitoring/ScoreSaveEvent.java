@@ -0,0 +1,31 @@
+package org.example.snakegame.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR : écriture d'un fichier de sauvegarde (scores ou classement)
+ */
+@Name("org.example.snakegame.ScoreSave")
+@Label("Sauvegarde des scores")
+@Category({"Arcade", "Sauvegarde"})
+@Description("Écriture des scores ou du classement sur disque")
+public class ScoreSaveEvent extends jdk.jfr.Event {
+
+    @Label("Sauvegarde")
+    @Description("Fichier sauvegardé : scores ou classement")
+    public String store;
+
+    @Label("Fichier")
+    public String path;
+
+    @Label("Octets écrits")
+    @DataAmount
+    public long bytesWritten;
+
+    @Label("Réussie")
+    public boolean success;
+}
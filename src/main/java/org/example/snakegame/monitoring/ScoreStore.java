@@ -0,0 +1,94 @@
+package org.example.snakegame.monitoring;
+
+import org.example.snakegame.ScoreManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * MBean de la sauvegarde des scores et du classement, adossé au ScoreManager
+ */
+public class ScoreStore implements ScoreStoreMBean {
+
+    private final ScoreManager scoreManager;
+
+    public ScoreStore(ScoreManager scoreManager) {
+        this.scoreManager = scoreManager;
+    }
+
+    @Override
+    public String getSaveFilePath() {
+        return scoreManager.getSaveFilePath().toAbsolutePath().toString();
+    }
+
+    @Override
+    public long getFileSize() {
+        Path file = scoreManager.getSaveFilePath();
+        try {
+            return Files.exists(file) ? Files.size(file) : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public long getSaveCount() {
+        return scoreManager.getSaveHistogram().getCount();
+    }
+
+    @Override
+    public long getSaveFailures() {
+        return scoreManager.getSaveFailures();
+    }
+
+    @Override
+    public String getLastError() {
+        return scoreManager.getLastSaveError();
+    }
+
+    @Override
+    public double getSaveMeanMillis() {
+        return scoreManager.getSaveHistogram().getMean() / 1_000_000.0;
+    }
+
+    @Override
+    public double getSaveP99Millis() {
+        return scoreManager.getSaveHistogram().getValueAtPercentile(99) / 1_000_000.0;
+    }
+
+    @Override
+    public double getSaveMaxMillis() {
+        return scoreManager.getSaveHistogram().getMax() / 1_000_000.0;
+    }
+
+    @Override
+    public int getTotalGamesPlayed() {
+        return scoreManager.getTotalGamesPlayed();
+    }
+
+    @Override
+    public String getLeaderboardFilePath() {
+        return scoreManager.getLeaderboard().getIndexPath().toAbsolutePath().toString();
+    }
+
+    @Override
+    public long getLeaderboardSaveCount() {
+        return scoreManager.getLeaderboard().getSaveHistogram().getCount();
+    }
+
+    @Override
+    public long getLeaderboardSaveFailures() {
+        return scoreManager.getLeaderboard().getSaveFailures();
+    }
+
+    @Override
+    public String getLeaderboardLastError() {
+        return scoreManager.getLeaderboard().getLastSaveError();
+    }
+
+    @Override
+    public double getLeaderboardSaveP99Millis() {
+        return scoreManager.getLeaderboard().getSaveHistogram().getValueAtPercentile(99) / 1_000_000.0;
+    }
+}
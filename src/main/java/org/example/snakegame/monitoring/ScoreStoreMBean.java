@@ -0,0 +1,40 @@
+package org.example.snakegame.monitoring;
+
+/**
+ * Interface JMX de la sauvegarde des scores
+ * Les attributs Save* concernent le fichier de scores, les attributs Leaderboard*
+ * l'index du classement. Durées en millisecondes.
+ */
+public interface ScoreStoreMBean {
+
+    String getSaveFilePath();
+
+    /** Taille du fichier de scores en octets, -1 s'il n'existe pas */
+    long getFileSize();
+
+    /** Nombre de sauvegardes tentées */
+    long getSaveCount();
+
+    long getSaveFailures();
+
+    /** Message de la dernière erreur de sauvegarde, vide si aucune */
+    String getLastError();
+
+    double getSaveMeanMillis();
+    double getSaveP99Millis();
+    double getSaveMaxMillis();
+
+    int getTotalGamesPlayed();
+
+    String getLeaderboardFilePath();
+
+    /** Nombre de sauvegardes de l'index du classement tentées */
+    long getLeaderboardSaveCount();
+
+    long getLeaderboardSaveFailures();
+
+    /** Message de la dernière erreur de sauvegarde du classement, vide si aucune */
+    String getLeaderboardLastError();
+
+    double getLeaderboardSaveP99Millis();
+}
@@ -0,0 +1,25 @@
+package org.example.snakegame.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR : lecture d'un effet sonore
+ */
+@Name("org.example.snakegame.SoundEffect")
+@Label("Effet sonore")
+@Category({"Arcade", "Audio"})
+@Description("Déclenchement d'un effet sonore (arrêt, rembobinage, lecture)")
+public class SoundEffectEvent extends jdk.jfr.Event {
+
+    @Label("Effet")
+    public String effect;
+
+    @Label("Joué")
+    public boolean played;
+
+    @Label("Volume")
+    public double volume;
+}
@@ -1,6 +1,9 @@
 package org.example.snakegame.pong;
 
-import java.util.Random;
+import org.example.snakegame.common.GameRandom;
+import org.example.snakegame.common.ValidationUtils;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Classe Ball - Représente la balle du jeu Pong avec toute sa logique
@@ -9,13 +12,18 @@ public class Ball {
 
     private double x;
     private double y;
+    // Position au début de la frame (interpolation du rendu)
+    private double previousX;
+    private double previousY;
     private double velocityX;
     private double velocityY;
     private double speed;
     private final double size;
     private final double canvasWidth;
     private final double canvasHeight;
-    private final Random random;
+    private final RandomGenerator random;
+    // Dernières positions réelles (effet de traînée)
+    private final BallTrail trail = new BallTrail(TRAIL_LENGTH);
 
     // Statistiques de la balle
     private int bounceCount;
@@ -27,17 +35,26 @@ public class Ball {
     private static final double SPEED_INCREASE_FACTOR = 1.05;
     private static final double MAX_SPEED_MULTIPLIER = 2.0;
     private static final double MIN_VELOCITY_Y = 0.5;
+    public static final int TRAIL_LENGTH = 8; // Frames conservées dans la traînée
 
     /**
-     * Constructeur de la balle
+     * Constructeur de la balle (générateur dérivé de la session)
      */
     public Ball(double canvasWidth, double canvasHeight, double size, double initialSpeed) {
+        this(canvasWidth, canvasHeight, size, initialSpeed, GameRandom.split());
+    }
+
+    /**
+     * Constructeur avec générateur aléatoire dédié
+     */
+    public Ball(double canvasWidth, double canvasHeight, double size, double initialSpeed,
+                RandomGenerator random) {
         this.canvasWidth = canvasWidth;
         this.canvasHeight = canvasHeight;
         this.size = size;
         this.speed = initialSpeed;
         this.maxSpeed = initialSpeed * MAX_SPEED_MULTIPLIER;
-        this.random = new Random();
+        this.random = ValidationUtils.requireNonNull(random, "random");
 
         // Statistiques
         this.bounceCount = 0;
@@ -165,6 +182,9 @@ public class Ball {
         // Position centrale
         x = canvasWidth / 2 - size / 2;
         y = canvasHeight / 2 - size / 2;
+        previousX = x;
+        previousY = y;
+        trail.clear(); // Pas de traînée entre le but et le centre
 
         // Direction aléatoire mais équitable
         double angle = (random.nextDouble() - 0.5) * Math.PI / 3; // ±60 degrés max
@@ -188,6 +208,45 @@ public class Ball {
         speed = speed / Math.pow(SPEED_INCREASE_FACTOR, paddleBounces); // Vitesse initiale
     }
 
+    /**
+     * Copier la position, la vitesse et la traînée d'une autre balle (instantané pour le rendu)
+     */
+    public void copyFrom(Ball other) {
+        x = other.x;
+        y = other.y;
+        previousX = other.previousX;
+        previousY = other.previousY;
+        velocityX = other.velocityX;
+        velocityY = other.velocityY;
+        speed = other.speed;
+        bounceCount = other.bounceCount;
+        trail.copyFrom(other.trail);
+    }
+
+    /**
+     * Mémoriser la position de début de frame (interpolation du rendu et traînée)
+     */
+    public void storePreviousPosition() {
+        previousX = x;
+        previousY = y;
+        trail.record(x, y);
+    }
+
+    /**
+     * Position horizontale interpolée entre la frame précédente et la frame courante
+     * @param alpha Facteur d'interpolation (0 = frame précédente, 1 = frame courante)
+     */
+    public double getRenderX(double alpha) {
+        return previousX + (x - previousX) * alpha;
+    }
+
+    /**
+     * Position verticale interpolée entre la frame précédente et la frame courante
+     */
+    public double getRenderY(double alpha) {
+        return previousY + (y - previousY) * alpha;
+    }
+
     /**
      * Obtenir la vitesse pour les effets visuels de traînée
      */
@@ -229,6 +288,7 @@ public class Ball {
     public double getVelocityY() { return velocityY; }
     public double getSpeed() { return speed; }
     public double getSize() { return size; }
+    public BallTrail getTrail() { return trail; }
     public int getBounceCount() { return bounceCount; }
     public int getWallBounces() { return wallBounces; }
     public int getPaddleBounces() { return paddleBounces; }
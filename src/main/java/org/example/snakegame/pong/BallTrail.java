@@ -0,0 +1,82 @@
+package org.example.snakegame.pong;
+
+import org.example.snakegame.common.ValidationUtils;
+
+/**
+ * Traînée de la balle : tampon circulaire des dernières positions réelles
+ *
+ * La simulation enregistre une position par frame physique ; les plus anciennes sont
+ * écrasées. La traînée suit donc le vrai trajet (rebonds compris) et son coût de rendu
+ * est borné par la capacité, quelle que soit la vitesse de la balle.
+ */
+public class BallTrail {
+
+    private final double[] xs;
+    private final double[] ys;
+    private int head; // Prochain emplacement à écrire
+    private int size;
+
+    /**
+     * Constructeur
+     * @param capacity Nombre maximal de positions conservées
+     */
+    public BallTrail(int capacity) {
+        ValidationUtils.requirePositive(capacity, "capacity");
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+    }
+
+    /**
+     * Enregistrer une position (coin haut gauche de la balle)
+     */
+    public void record(double x, double y) {
+        xs[head] = x;
+        ys[head] = y;
+        head = (head + 1) % xs.length;
+        if (size < xs.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Copier une traînée de même capacité (instantané pour le rendu)
+     */
+    public void copyFrom(BallTrail other) {
+        System.arraycopy(other.xs, 0, xs, 0, xs.length);
+        System.arraycopy(other.ys, 0, ys, 0, ys.length);
+        head = other.head;
+        size = other.size;
+    }
+
+    /**
+     * Vider la traînée (remise au centre après un point)
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Position horizontale d'une entrée
+     * @param age 0 = position la plus récente, size() - 1 = la plus ancienne
+     */
+    public double getX(int age) {
+        return xs[indexOf(age)];
+    }
+
+    /**
+     * Position verticale d'une entrée
+     * @param age 0 = position la plus récente, size() - 1 = la plus ancienne
+     */
+    public double getY(int age) {
+        return ys[indexOf(age)];
+    }
+
+    private int indexOf(int age) {
+        ValidationUtils.requireInRange(age, 0, size - 1, "age");
+        return Math.floorMod(head - 1 - age, xs.length);
+    }
+
+    public int size() { return size; }
+    public int getCapacity() { return xs.length; }
+}
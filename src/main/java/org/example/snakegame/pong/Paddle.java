@@ -1,5 +1,10 @@
 package org.example.snakegame.pong;
 
+import org.example.snakegame.common.GameRandom;
+import org.example.snakegame.common.ValidationUtils;
+
+import java.util.random.RandomGenerator;
+
 /**
  * Classe Paddle - Représente une raquette du jeu Pong avec toute sa logique
  */
@@ -7,18 +12,19 @@ public class Paddle {
 
     private double x;
     private double y;
+    private double previousY; // Position au début de la frame (interpolation du rendu)
     private final double width;
     private final double height;
     private double speed;
     private final double canvasHeight;
     private final boolean isAI;
     private final PaddleType type;
+    private final RandomGenerator random;
 
     // IA Properties
     private double aiDifficulty;
     private double aiReactionDelay;
     private double aiTargetY;
-    private long lastAIUpdate;
 
     // Statistiques
     private int hits;
@@ -35,10 +41,18 @@ public class Paddle {
     }
 
     /**
-     * Constructeur de la raquette
+     * Constructeur de la raquette (générateur dérivé de la session)
      */
     public Paddle(double x, double y, double width, double height, double speed,
                   double canvasHeight, PaddleType type) {
+        this(x, y, width, height, speed, canvasHeight, type, GameRandom.split());
+    }
+
+    /**
+     * Constructeur avec générateur aléatoire dédié (imprécision de l'IA)
+     */
+    public Paddle(double x, double y, double width, double height, double speed,
+                  double canvasHeight, PaddleType type, RandomGenerator random) {
         this.x = x;
         this.y = y;
         this.width = width;
@@ -46,13 +60,13 @@ public class Paddle {
         this.speed = speed;
         this.canvasHeight = canvasHeight;
         this.type = type;
+        this.random = ValidationUtils.requireNonNull(random, "random");
         this.isAI = (type == PaddleType.AI_LEFT || type == PaddleType.AI_RIGHT);
 
         // Configuration IA par défaut
         this.aiDifficulty = 0.7;
         this.aiReactionDelay = 0;
         this.aiTargetY = y;
-        this.lastAIUpdate = System.currentTimeMillis();
 
         // Statistiques
         this.hits = 0;
@@ -112,8 +126,6 @@ public class Paddle {
     public void updateAI(Ball ball) {
         if (!isAI) return;
 
-        long currentTime = System.currentTimeMillis();
-
         // Délai de réaction de l'IA
         if (aiReactionDelay > 0) {
             aiReactionDelay--;
@@ -131,7 +143,7 @@ public class Paddle {
 
             // Ajouter de l'imprécision basée sur la difficulté
             double error = (1 - aiDifficulty) * height * 0.3;
-            aiTargetY += (Math.random() - 0.5) * error;
+            aiTargetY += (random.nextDouble() - 0.5) * error;
 
         } else {
             // La balle s'éloigne, retourner au centre lentement
@@ -150,8 +162,6 @@ public class Paddle {
                 y = Math.max(y - aiSpeed, 0);
             }
         }
-
-        lastAIUpdate = currentTime;
     }
 
     /**
@@ -217,6 +227,31 @@ public class Paddle {
      */
     public void centerVertically() {
         y = (canvasHeight - height) / 2;
+        previousY = y;
+    }
+
+    /**
+     * Copier la position d'une autre raquette (instantané pour le rendu)
+     */
+    public void copyFrom(Paddle other) {
+        x = other.x;
+        y = other.y;
+        previousY = other.previousY;
+    }
+
+    /**
+     * Mémoriser la position de début de frame (pour l'interpolation du rendu)
+     */
+    public void storePreviousPosition() {
+        previousY = y;
+    }
+
+    /**
+     * Position verticale interpolée entre la frame précédente et la frame courante
+     * @param alpha Facteur d'interpolation (0 = frame précédente, 1 = frame courante)
+     */
+    public double getRenderY(double alpha) {
+        return previousY + (y - previousY) * alpha;
     }
 
     /**
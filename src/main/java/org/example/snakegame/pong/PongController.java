@@ -1,75 +1,78 @@
 package org.example.snakegame.pong;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
-import javafx.util.Duration;
 import org.example.snakegame.MusicController;
 import org.example.snakegame.ScoreManager;
 import org.example.snakegame.common.AbstractGameController;
 import org.example.snakegame.common.GameResult;
 import org.example.snakegame.common.GameState;
+import org.example.snakegame.common.RenderBackend;
+import org.example.snakegame.common.TripleBuffer;
 import org.example.snakegame.common.ValidationUtils;
+import org.example.snakegame.monitoring.ArcadeEvents;
+import org.example.snakegame.monitoring.CollisionEvent;
+import org.example.snakegame.monitoring.GameTickEvent;
+import org.example.snakegame.monitoring.GoalEvent;
 
 import java.util.HashSet;
 import java.util.Set;
 
 /**
  * Contrôleur du jeu Pong
- * Version refactorisée avec logging structuré, validation et SRP
+ * Adaptateur JavaFX : pilote PongSimulation et traduit ses événements
+ * en sons, sauvegarde des scores et notifications.
  * Le rendu est délégué à PongRenderer (SRP)
  */
-public class PongController extends AbstractGameController {
+public class PongController extends AbstractGameController implements PongSimulation.Listener {
 
     private final MusicController musicController;
     // Constantes du jeu
-    private static final int CANVAS_WIDTH = 800;
-    private static final int CANVAS_HEIGHT = 600;
-    private static final int PADDLE_WIDTH = 15;
-    private static final int PADDLE_HEIGHT = 80;
-    private static final int BALL_SIZE = 15;
-    private static final int WINNING_SCORE = 5;
+    private static final int CANVAS_WIDTH = PongSimulation.FIELD_WIDTH;
+    private static final int CANVAS_HEIGHT = PongSimulation.FIELD_HEIGHT;
+    private static final int WINNING_SCORE = PongSimulation.WINNING_SCORE;
+    private static final double FRAME_MILLIS = 1000.0 / 60; // Pas fixe de la physique
 
     // État du jeu (gameState et gameLoop sont dans AbstractGameController)
     // GraphicsContext passé uniquement au renderer (SRP)
     
-    // Renderer dédié (SRP)
+    // Renderers dédiés (SRP) : vectoriel et pixels directs, F2 pour basculer
     private final PongRenderer renderer;
+    private final PongPixelRenderer pixelRenderer;
+    private RenderBackend backend;
 
-    // Objets du jeu
-    private Ball ball;
-    private Paddle leftPaddle;
-    private Paddle rightPaddle;
-
-    // Scores de la partie en cours
-    private int player1Score;
-    private int player2Score;
-    private int previousPlayer1Score;
-    private int previousPlayer2Score;
+    // Moteur de simulation (balle, raquettes, score, victoire)
+    private final PongSimulation simulation;
+    // Instantanés passés au rendu quand la simulation a son propre thread
+    private final TripleBuffer<PongFrame> frames;
+    // Notification d'interface retardée jusqu'à la publication du tick (thread de simulation)
+    private Runnable pendingNotification;
 
     // Contrôles
     private final Set<KeyCode> pressedKeys;
 
-    // Statistiques locales
-    private int maxBounceCount;
-    private int totalBounces;
-
     // Référence au gestionnaire de scores global
     private final ScoreManager scoreManager;
 
     /**
      * Constructeur du contrôleur Pong
+     * @param gc Contexte graphique du canvas de jeu
+     * @param pixelView ImageView placée sous le canvas, utilisée par le rendu en pixels directs
      */
-    public PongController(GraphicsContext gc) {
+    public PongController(GraphicsContext gc, ImageView pixelView) {
         super(PongController.class);
         ValidationUtils.requireNonNull(gc, "graphicsContext");
+        ValidationUtils.requireNonNull(pixelView, "pixelView");
         this.renderer = new PongRenderer(gc, CANVAS_WIDTH, CANVAS_HEIGHT, WINNING_SCORE);
+        this.pixelRenderer = new PongPixelRenderer(gc, pixelView, renderer);
+        this.backend = RenderBackend.fromSystemProperty();
         this.scoreManager = ScoreManager.INSTANCE;
         this.musicController = MusicController.INSTANCE;
         this.pressedKeys = new HashSet<>();
-        this.previousPlayer1Score = 0;
-        this.previousPlayer2Score = 0;
+        this.simulation = new PongSimulation(CANVAS_WIDTH, CANVAS_HEIGHT, WINNING_SCORE);
+        this.simulation.setListener(this);
+        this.frames = new TripleBuffer<>(() -> new PongFrame(simulation));
 
         // Initialiser le jeu
         initializeGame();
@@ -80,33 +83,9 @@ public class PongController extends AbstractGameController {
      * Initialiser une nouvelle partie
      */
     private void initializeGame() {
-        // Créer la balle au centre
-        ball = new Ball(CANVAS_WIDTH, CANVAS_HEIGHT, BALL_SIZE, 3.0);
-
-        // Créer les raquettes
-        double leftPaddleX = 30;
-        double rightPaddleX = CANVAS_WIDTH - 30 - PADDLE_WIDTH;
-
-        leftPaddle = new Paddle(
-                leftPaddleX, 0, PADDLE_WIDTH, PADDLE_HEIGHT, 5,
-                CANVAS_HEIGHT, Paddle.PaddleType.PLAYER_LEFT
-        );
-
-        rightPaddle = new Paddle(
-                rightPaddleX, 0, PADDLE_WIDTH, PADDLE_HEIGHT, 5,
-                CANVAS_HEIGHT, Paddle.PaddleType.AI_RIGHT
-        );
-
-        // Configurer l'IA par défaut (difficulté moyenne)
-        rightPaddle.setAIDifficulty(0.7);
-
-        // Scores de la partie
-        player1Score = 0;
-        player2Score = 0;
-
-        // Statistiques
-        maxBounceCount = 0;
-        totalBounces = 0;
+        // Nouveau match (balle, raquettes, scores, IA par défaut)
+        simulation.reset();
+        submitPlayerInput(); // Touches maintenues pendant le redémarrage
 
         // État initial
         updateGameState(GameState.WAITING_RESTART);
@@ -116,19 +95,10 @@ public class PongController extends AbstractGameController {
     }
 
     /**
-     * Configurer la boucle de jeu (60 FPS)
+     * Configurer la boucle de jeu (physique à 60 Hz, rendu interpolé à chaque pulse)
      */
     private void setupGameLoop() {
-        // Arrêter l'ancienne Timeline si elle existe pour éviter les fuites mémoire
-        if (gameLoop != null) {
-            gameLoop.stop();
-        }
-        
-        gameLoop = new Timeline(new KeyFrame(
-                Duration.millis(16.67), // ~60 FPS
-                e -> updateGame()
-        ));
-        gameLoop.setCycleCount(Timeline.INDEFINITE);
+        gameLoop = createGameLoop(FRAME_MILLIS, this::updateGame, this::renderFrame);
     }
 
     /**
@@ -139,123 +109,152 @@ public class PongController extends AbstractGameController {
             return;
         }
 
-        // Mettre à jour les raquettes
-        updatePaddles();
-
-        // Mettre à jour la balle
-        ball.move();
-
-        // Vérifier les collisions avec les raquettes
-        checkPaddleCollisions();
-
-        // Vérifier les goals
-        checkGoals();
-
-        // Vérifier les conditions de victoire
-        checkWinCondition();
+        // Raquette gauche (Joueur 1) et difficulté : entrées transmises par le clavier
+        drainInput();
 
-        // Redessiner
-        render();
+        PongSimulation.FrameResult result = simulation.step();
+        if (simulationThreaded) {
+            publishFrame(); // Le but est notifié avant la fin du match
+        }
+        if (result == PongSimulation.FrameResult.MATCH_OVER) {
+            runOnUiThread(this::endMatch);
+        }
     }
 
     /**
-     * Mettre à jour les positions des raquettes - CORRIGÉ: Contrôles flèches
+     * Publier un instantané de la simulation pour le rendu
+     * La notification en attente part ensuite : l'interface trouve ce tick publié.
      */
-    private void updatePaddles() {
-        // Raquette gauche (Joueur 1) - NOUVELLES TOUCHES: Flèches UP/DOWN
-        if (pressedKeys.contains(KeyCode.UP) && leftPaddle.canMoveUp()) {
-            boolean moved = leftPaddle.moveUp();
-            if (moved) logger.debug("Paddle UP - Y: %d", (int)leftPaddle.getY());
-        }
-        if (pressedKeys.contains(KeyCode.DOWN) && leftPaddle.canMoveDown()) {
-            boolean moved = leftPaddle.moveDown();
-            if (moved) logger.debug("Paddle DOWN - Y: %d", (int)leftPaddle.getY());
+    private void publishFrame() {
+        frames.getWriteBuffer().capture(simulation);
+        frames.publish();
+        if (pendingNotification != null) {
+            Runnable notification = pendingNotification;
+            pendingNotification = null;
+            runOnUiThread(notification);
         }
+    }
 
-        // Raquette droite (IA)
-        rightPaddle.updateAI(ball);
+    /**
+     * Instantané lu par l'interface, ou null si la simulation tourne sur le thread JavaFX
+     */
+    private PongFrame displayedFrame() {
+        return simulationThreaded ? frames.getReadBuffer() : null;
     }
 
     /**
-     * Vérifier et gérer les collisions avec les raquettes
+     * Récupérer le dernier instantané publié avant de lire les statistiques
+     * Le rendu redessine à chaque pulse : rien à dessiner ici.
      */
-    private void checkPaddleCollisions() {
-        // Collision avec la raquette gauche
-        if (leftPaddle.collidesWith(ball)) {
-            leftPaddle.handleBallCollision(ball);
-            logger.debug("Collision avec raquette gauche ! Hits: %d", leftPaddle.getHits());
-            musicController.playPongBallHit();
+    private void syncSnapshot() {
+        if (simulationThreaded) {
+            frames.update();
         }
+    }
 
-        // Collision avec la raquette droite
-        if (rightPaddle.collidesWith(ball)) {
-            rightPaddle.handleBallCollision(ball);
-            logger.debug("Collision avec raquette droite (IA) ! Hits: %d", rightPaddle.getHits());
-            musicController.playPongBallHit();
+    /**
+     * Rendu d'un pulse d'affichage, interpolé entre les deux dernières frames physiques
+     */
+    private void renderFrame(double alpha) {
+        if (simulationThreaded) {
+            frames.update();
+            renderSnapshot(frames.getReadBuffer(), alpha);
+            return;
         }
+        activeRenderer().render(simulation.getLeftPaddle(), simulation.getRightPaddle(), simulation.getBall(),
+                       simulation.getPlayer1Score(), simulation.getPlayer2Score(), gameState, alpha);
     }
 
     /**
-     * Vérifier les goals
+     * Dessiner un instantané publié par le thread de simulation
      */
-    private void checkGoals() {
-        Ball.GoalResult goalResult = ball.checkGoal();
-
-        if (goalResult != Ball.GoalResult.NO_GOAL) {
-            // Mettre à jour les statistiques
-            maxBounceCount = Math.max(maxBounceCount, ball.getBounceCount());
-            totalBounces += ball.getBounceCount();
-
-            // Mettre à jour les scores
-            if (goalResult == Ball.GoalResult.PLAYER_1_GOAL) {
-                player1Score++;
-                logger.info("Goal Joueur 1 ! Score: %d-%d", player1Score, player2Score);
-            } else if (goalResult == Ball.GoalResult.PLAYER_2_GOAL) {
-                player2Score++;
-                logger.info("Goal IA ! Score: %d-%d", player1Score, player2Score);
-            }
+    private void renderSnapshot(PongFrame frame, double alpha) {
+        activeRenderer().render(frame.getLeftPaddle(), frame.getRightPaddle(), frame.getBall(),
+                       frame.getPlayer1Score(), frame.getPlayer2Score(), gameState, alpha);
+    }
+
+    @Override
+    public void onPaddleHit(boolean leftPaddle) {
+        if (leftPaddle) {
+            logger.debug("Collision avec raquette gauche ! Hits: %d", simulation.getLeftPaddle().getHits());
+        } else {
+            logger.debug("Collision avec raquette droite (IA) ! Hits: %d", simulation.getRightPaddle().getHits());
+        }
+        if (ArcadeEvents.COLLISION.isEnabled()) {
+            CollisionEvent event = new CollisionEvent();
+            event.game = getGameName();
+            event.kind = leftPaddle ? "raquette gauche" : "raquette droite";
+            event.ballSpeed = simulation.getBall().getSpeed();
+            event.commit();
+        }
+        runOnUiThread(musicController::playPongBallHit);
+    }
+
+    @Override
+    public void onGoal(boolean player1Scored) {
+        int player1Score = simulation.getPlayer1Score();
+        int player2Score = simulation.getPlayer2Score();
+        if (player1Scored) {
+            logger.info("Goal Joueur 1 ! Score: %d-%d", player1Score, player2Score);
+        } else {
+            logger.info("Goal IA ! Score: %d-%d", player1Score, player2Score);
+        }
+        if (ArcadeEvents.GOAL.isEnabled()) {
+            GoalEvent event = new GoalEvent();
+            event.player1Scored = player1Scored;
+            event.player1Score = player1Score;
+            event.player2Score = player2Score;
+            event.ballSpeed = simulation.getBall().getSpeed();
+            event.frames = simulation.getFrames();
+            event.commit();
+        }
+        // Son et interface sur le thread JavaFX
+        Runnable notification = () -> {
+            syncSnapshot();
             musicController.playPongGoal();
-            ball.reset();
-
-            // Notifier l'interface
-            int delta1 = player1Score - previousPlayer1Score;
-            int delta2 = player2Score - previousPlayer2Score;
-            notifyScoreUpdate(player1Score, delta1);
-            previousPlayer1Score = player1Score;
-            previousPlayer2Score = player2Score;
+            notifyScoreUpdate(player1Score, player1Scored ? 1 : 0);
+        };
+        if (simulationThreaded) {
+            pendingNotification = notification; // Envoyée après la publication du tick
+        } else {
+            notification.run();
         }
     }
 
     /**
-     * Vérifier les conditions de victoire
+     * Fin du match : sons, sauvegarde et notification
      */
-    private void checkWinCondition() {
-        if (player1Score >= WINNING_SCORE || player2Score >= WINNING_SCORE) {
-            updateGameState(GameState.VICTORY);
-            gameLoop.stop();
-
-            boolean playerWon = player1Score >= WINNING_SCORE;
-            
-            if (playerWon) {
-                musicController.playPongVictory();
-                scoreManager.recordPongPlayerWin();
-                logger.game("🏆", "Victoire du JOUEUR 1 !");
-            } else {
-                musicController.playSnakeGameOver();
-                scoreManager.recordPongAIWin();
-                logger.info("Victoire de l'IA !");
-            }
+    private void endMatch() {
+        updateGameState(GameState.VICTORY);
+        gameLoop.stop();
+
+        int player1Score = simulation.getPlayer1Score();
+        int player2Score = simulation.getPlayer2Score();
+        boolean playerWon = simulation.isPlayerWinner();
+
+        GameResult.GameStatistics statistics = new GameResult.GameStatistics(
+                simulation.getMaxBounceCount(),
+                simulation.getTotalBounces(),
+                String.format("Joueur: %d | IA: %d", player1Score, player2Score)
+        );
+        GameResult result = new GameResult("Pong", player1Score, playerWon, statistics);
+        scoreManager.recordResult(result);
+
+        if (playerWon) {
+            musicController.playPongVictory();
+            logger.game("🏆", "Victoire du JOUEUR 1 !");
+        } else {
+            musicController.playSnakeGameOver();
+            logger.info("Victoire de l'IA !");
+        }
 
-            logger.info("Score final: %d-%d", player1Score, player2Score);
-            logger.info("Score global Pong: %s", scoreManager.getPongScore());
+        logger.info("Score final: %d-%d", player1Score, player2Score);
+        logger.info("Score global Pong: %s", scoreManager.getPongScore());
 
-            GameResult.GameStatistics statistics = new GameResult.GameStatistics(
-                    maxBounceCount,
-                    totalBounces,
-                    String.format("Joueur: %d | IA: %d", player1Score, player2Score)
-            );
-            notifyGameOver(new GameResult("Pong", player1Score, playerWon, statistics));
-        }
+        notifyGameOver(result);
+
+        // La boucle est arrêtée : dessiner l'écran de fin (message de victoire)
+        render();
     }
 
     /**
@@ -283,28 +282,47 @@ public class PongController extends AbstractGameController {
                 }
             }
             case DIGIT1 -> {
-                rightPaddle.setAIDifficulty(0.3);
+                submitInput(() -> simulation.setAIDifficulty(0.3));
                 logger.info("Pong - Difficulté IA: Facile (30%%)");
             }
             case DIGIT2 -> {
-                rightPaddle.setAIDifficulty(0.5);
+                submitInput(() -> simulation.setAIDifficulty(0.5));
                 logger.info("Pong - Difficulté IA: Moyen (50%%)");
             }
             case DIGIT3 -> {
-                rightPaddle.setAIDifficulty(0.8);
+                submitInput(() -> simulation.setAIDifficulty(0.8));
                 logger.info("Pong - Difficulté IA: Difficile (80%%)");
             }
-            case UP -> logger.debug("Pong - Flèche HAUT pressée");
-            case DOWN -> logger.debug("Pong - Flèche BAS pressée");
+            case F2 -> switchRenderBackend();
+            case UP -> {
+                submitPlayerInput();
+                logger.debug("Pong - Flèche HAUT pressée");
+            }
+            case DOWN -> {
+                submitPlayerInput();
+                logger.debug("Pong - Flèche BAS pressée");
+            }
         }
     }
 
     public void handleKeyReleased(KeyCode keyCode) {
         pressedKeys.remove(keyCode);
+        if (keyCode == KeyCode.UP || keyCode == KeyCode.DOWN) {
+            submitPlayerInput();
+        }
+    }
+
+    /**
+     * Transmettre l'état des flèches à la raquette gauche (Joueur 1)
+     */
+    private void submitPlayerInput() {
+        boolean up = pressedKeys.contains(KeyCode.UP);
+        boolean down = pressedKeys.contains(KeyCode.DOWN);
+        submitInput(() -> simulation.setPlayerInput(up, down));
     }
 
     @Override
-    protected String getGameName() {
+    public String getGameName() {
         return "Pong";
     }
 
@@ -313,30 +331,92 @@ public class PongController extends AbstractGameController {
         initializeGame();
     }
 
+    @Override
+    protected void describeTick(GameTickEvent event) {
+        event.ballSpeed = simulation.getBall().getSpeed();
+    }
+
     @Override
     protected void onPauseToggled() {
         render(); // Rafraîchir l'affichage lors de la pause
     }
 
+    /**
+     * Basculer entre le rendu vectoriel et le rendu en pixels directs
+     */
+    private void switchRenderBackend() {
+        activeRenderer().deactivate();
+        backend = backend.next();
+        activeRenderer().invalidate();
+        render();
+        logger.game("🖼️", "Pong - Backend de rendu: %s", backend.getDisplayName());
+    }
+
+    private PongRenderBackend activeRenderer() {
+        return backend == RenderBackend.PIXEL_BUFFER ? pixelRenderer : renderer;
+    }
+
     /**
      * Rendu graphique principal - Délégation au renderer (SRP)
      */
     public void render() {
-        renderer.render(leftPaddle, rightPaddle, ball, 
-                       player1Score, player2Score, gameState);
+        if (simulationThreaded) {
+            // Boucle à l'arrêt : aucun tick en cours, capture directe depuis le thread JavaFX
+            if (gameLoop == null || !gameLoop.isRunning()) {
+                publishFrame();
+            }
+            frames.update();
+            renderSnapshot(frames.getReadBuffer(), 1.0);
+            return;
+        }
+        activeRenderer().render(simulation.getLeftPaddle(), simulation.getRightPaddle(), simulation.getBall(),
+                       simulation.getPlayer1Score(), simulation.getPlayer2Score(), gameState, 1.0);
     }
 
-    // Getters pour l'interface (utilisant maintenant les objets)
-    public int getPlayer1Score() { return player1Score; }
-    public int getPlayer2Score() { return player2Score; }
+    // Getters pour l'interface (délégués à la simulation, ou au dernier instantané
+    // récupéré par le thread JavaFX quand la simulation a son propre thread)
+    public int getPlayer1Score() {
+        PongFrame frame = displayedFrame();
+        return frame != null ? frame.getPlayer1Score() : simulation.getPlayer1Score();
+    }
+    public int getPlayer2Score() {
+        PongFrame frame = displayedFrame();
+        return frame != null ? frame.getPlayer2Score() : simulation.getPlayer2Score();
+    }
     public GameState getGameState() { return gameState; }
-    public int getBounceCount() { return ball.getBounceCount(); }
-    public int getMaxBounceCount() { return maxBounceCount; }
-    public double getBallSpeed() { return ball.getSpeed(); }
-    public double getAIDifficulty() { return rightPaddle.getAIDifficulty(); }
+    public int getBounceCount() {
+        PongFrame frame = displayedFrame();
+        return frame != null ? frame.getBall().getBounceCount() : simulation.getBall().getBounceCount();
+    }
+    public int getMaxBounceCount() {
+        PongFrame frame = displayedFrame();
+        return frame != null ? frame.getMaxBounceCount() : simulation.getMaxBounceCount();
+    }
+    public double getBallSpeed() {
+        PongFrame frame = displayedFrame();
+        return frame != null ? frame.getBall().getSpeed() : simulation.getBall().getSpeed();
+    }
+    public double getAIDifficulty() {
+        PongFrame frame = displayedFrame();
+        return frame != null ? frame.getAIDifficulty() : simulation.getAIDifficulty();
+    }
 
     // Getters pour statistiques avancées
-    public int getTotalBounces() { return totalBounces; }
-    public int getPlayerHits() { return leftPaddle.getHits(); }
-    public int getAIHits() { return rightPaddle.getHits(); }
-}
\ No newline at end of file
+    public int getTotalBounces() {
+        PongFrame frame = displayedFrame();
+        return frame != null ? frame.getTotalBounces() : simulation.getTotalBounces();
+    }
+    public int getPlayerHits() {
+        PongFrame frame = displayedFrame();
+        return frame != null ? frame.getPlayerHits() : simulation.getLeftPaddle().getHits();
+    }
+    public int getAIHits() {
+        PongFrame frame = displayedFrame();
+        return frame != null ? frame.getAIHits() : simulation.getRightPaddle().getHits();
+    }
+
+    /**
+     * Obtenir le moteur de simulation (tests, réglage de l'IA)
+     */
+    public PongSimulation getSimulation() { return simulation; }
+}
@@ -0,0 +1,70 @@
+package org.example.snakegame.pong;
+
+import org.example.snakegame.common.GameRandom;
+
+/**
+ * Instantané d'une frame Pong, passé du thread de simulation au thread JavaFX
+ *
+ * Les instances sont réutilisées (triple tampon) : {@link #capture} recopie positions,
+ * positions précédentes (interpolation) et traînée dans des raquettes et une balle
+ * miroirs, sans allocation. Les statistiques du match (rebonds, touches, difficulté)
+ * sont recopiées avec le reste pour l'affichage depuis le thread JavaFX.
+ */
+public final class PongFrame {
+
+    private final Paddle leftPaddle;
+    private final Paddle rightPaddle;
+    private final Ball ball;
+    private int player1Score;
+    private int player2Score;
+    private int maxBounceCount;
+    private int totalBounces;
+    private int playerHits;
+    private int aiHits;
+    private double aiDifficulty;
+
+    /**
+     * Constructeur
+     * @param simulation Simulation dont les dimensions sont reprises
+     */
+    public PongFrame(PongSimulation simulation) {
+        this.leftPaddle = mirrorOf(simulation.getLeftPaddle(), simulation.getFieldHeight());
+        this.rightPaddle = mirrorOf(simulation.getRightPaddle(), simulation.getFieldHeight());
+        Ball source = simulation.getBall();
+        this.ball = new Ball(simulation.getFieldWidth(), simulation.getFieldHeight(),
+                source.getSize(), source.getSpeed(), GameRandom.create(0));
+        capture(simulation);
+    }
+
+    private static Paddle mirrorOf(Paddle source, double fieldHeight) {
+        return new Paddle(source.getX(), source.getY(), source.getWidth(), source.getHeight(),
+                source.getSpeed(), fieldHeight, source.getType(), GameRandom.create(0));
+    }
+
+    /**
+     * Recopier l'état courant de la simulation
+     */
+    public void capture(PongSimulation simulation) {
+        leftPaddle.copyFrom(simulation.getLeftPaddle());
+        rightPaddle.copyFrom(simulation.getRightPaddle());
+        ball.copyFrom(simulation.getBall());
+        this.player1Score = simulation.getPlayer1Score();
+        this.player2Score = simulation.getPlayer2Score();
+        this.maxBounceCount = simulation.getMaxBounceCount();
+        this.totalBounces = simulation.getTotalBounces();
+        this.playerHits = simulation.getLeftPaddle().getHits();
+        this.aiHits = simulation.getRightPaddle().getHits();
+        this.aiDifficulty = simulation.getAIDifficulty();
+    }
+
+    public Paddle getLeftPaddle() { return leftPaddle; }
+    public Paddle getRightPaddle() { return rightPaddle; }
+    public Ball getBall() { return ball; }
+    public int getPlayer1Score() { return player1Score; }
+    public int getPlayer2Score() { return player2Score; }
+    public int getMaxBounceCount() { return maxBounceCount; }
+    public int getTotalBounces() { return totalBounces; }
+    public int getPlayerHits() { return playerHits; }
+    public int getAIHits() { return aiHits; }
+    public double getAIDifficulty() { return aiDifficulty; }
+}
@@ -8,6 +8,8 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
@@ -18,6 +20,7 @@ import org.example.snakegame.common.Game;
 import org.example.snakegame.common.GameEventListener;
 import org.example.snakegame.common.GameResult;
 import org.example.snakegame.common.GameLogger;
+import org.example.snakegame.common.PerformanceOverlay;
 import org.example.snakegame.common.TitleBarController;
 
 import java.io.IOException;
@@ -34,6 +37,8 @@ public class PongGame extends Application implements Game {
 
     // Composants graphiques FXML
     @FXML private Canvas gameCanvas;
+    @FXML private ImageView pixelView;
+    @FXML private Canvas overlayCanvas;
     @FXML private Label scoreLabel;
     @FXML private Label bounceLabel;
     @FXML private Label speedLabel;
@@ -48,6 +53,9 @@ public class PongGame extends Application implements Game {
     
     // Contrôleur de la title bar
     private TitleBarController titleBarController;
+
+    // Panneau de performances (F3)
+    private PerformanceOverlay performanceOverlay;
     
     // Composants non-FXML
     private PongController pongController;
@@ -88,7 +96,9 @@ public class PongGame extends Application implements Game {
 
         // Créer le contrôleur Pong
         GraphicsContext gc = gameCanvas.getGraphicsContext2D();
-        pongController = new PongController(gc);
+        pongController = new PongController(gc, pixelView);
+        performanceOverlay = new PerformanceOverlay(overlayCanvas, pongController.getTickHistogram(),
+                pongController::getSimulationThreadId);
 
         // Configurer les callbacks avec les nouvelles interfaces
         pongController.setScoreUpdateListener((newScore, delta) -> updateScoreDisplay());
@@ -106,6 +116,11 @@ public class PongGame extends Application implements Game {
 
         // Gestion des touches - CORRIGÉ
         scene.setOnKeyPressed(event -> {
+            if (event.getCode() == KeyCode.F3) {
+                performanceOverlay.toggle();
+                event.consume(); // Touche de l'overlay : jamais transmise au contrôleur
+                return;
+            }
             pongController.handleKeyPressed(event.getCode());
             updateScoreDisplay();
             // IMPORTANT: Synchroniser le bouton après les touches
@@ -149,7 +164,10 @@ public class PongGame extends Application implements Game {
             titleBarController = new TitleBarController(stage, titleBar);
             titleBarController.setOnCloseCallback(() -> {
                 if (pongController != null) {
-                    pongController.stopGame();
+                    pongController.dispose();
+                }
+                if (performanceOverlay != null) {
+                    performanceOverlay.hide();
                 }
             });
             logger.info("✅ Title bar initialisée pour Pong");
@@ -267,7 +285,10 @@ public class PongGame extends Application implements Game {
     protected void returnToMenu() {
         logger.info("Retour au menu depuis Pong Game");
         if (pongController != null) {
-            pongController.stopGame();
+            pongController.dispose();
+        }
+        if (performanceOverlay != null) {
+            performanceOverlay.hide();
         }
         GameController.returnToMenu();
     }
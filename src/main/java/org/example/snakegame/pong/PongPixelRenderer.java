@@ -0,0 +1,236 @@
+package org.example.snakegame.pong;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import org.example.snakegame.common.GameState;
+import org.example.snakegame.common.PixelSurface;
+import org.example.snakegame.common.PixelSurfaceView;
+import org.example.snakegame.common.SpriteAtlas;
+import org.example.snakegame.common.ValidationUtils;
+
+/**
+ * Backend de rendu Pong en pixels directs
+ *
+ * Raquettes, balle, traînée et score sont écrits dans un {@link PixelSurface} à partir
+ * des mêmes calques et sprites que {@link PongRenderer}. À chaque frame, seules les
+ * zones dessinées à la frame précédente sont restaurées depuis le fond ; le score n'est
+ * redessiné que s'il change ou si une de ces zones l'a effacé. La surface est affichée
+ * par une {@link PixelSurfaceView} sous le canvas, qui ne reçoit que les zones modifiées.
+ * Les textes (messages, contrôles) restent dessinés sur le canvas, uniquement quand ils
+ * changent.
+ */
+public class PongPixelRenderer implements PongRenderBackend {
+
+    private static final int MAX_DIRTY_RECTS = 8;
+    private static final int WHITE = PixelSurface.toArgb(Color.WHITE);
+    private static final int CYAN = PixelSurface.toArgb(Color.CYAN);
+
+    private final GraphicsContext gc;
+    private final PongRenderer canvasRenderer;
+    private final SpriteAtlas atlas;
+    private final PixelSurface surface;
+    private final PixelSurfaceView surfaceView;
+
+    // Zones dessinées à la frame précédente (x, y, largeur, hauteur)
+    private final int[] dirtyRects = new int[MAX_DIRTY_RECTS * 4];
+    private int dirtyRectCount;
+    private boolean fullRepaintNeeded = true;
+
+    // Zones et valeurs des deux scores affichés (-1 : aucun), scores partiellement effacés
+    private final int[] scoreRects = new int[2 * 4];
+    private final int[] drawnScores = {-1, -1};
+    private final boolean[] scoreDamaged = new boolean[2];
+
+    // Textes en surimpression déjà dessinés sur le canvas
+    private GameState drawnState;
+    private int drawnPlayer1Score;
+
+    /**
+     * Constructeur
+     * @param gc Contexte graphique du canvas de jeu
+     * @param pixelView ImageView placée sous le canvas de jeu
+     * @param canvasRenderer Renderer vectoriel dont on partage les calques et sprites
+     */
+    public PongPixelRenderer(GraphicsContext gc, ImageView pixelView, PongRenderer canvasRenderer) {
+        this.gc = ValidationUtils.requireNonNull(gc, "graphicsContext");
+        this.canvasRenderer = ValidationUtils.requireNonNull(canvasRenderer, "canvasRenderer");
+        this.atlas = canvasRenderer.getAtlas();
+        this.surface = new PixelSurface((int) canvasRenderer.getCanvasWidth(), (int) canvasRenderer.getCanvasHeight());
+        this.surfaceView = new PixelSurfaceView(surface, pixelView, gc.getCanvas());
+    }
+
+    @Override
+    public void render(Paddle leftPaddle, Paddle rightPaddle, Ball ball,
+                       int player1Score, int player2Score, GameState gameState, double alpha) {
+        int[] field = canvasRenderer.getFieldLayer().getPixels();
+
+        // Effacer ce qui a été dessiné à la frame précédente
+        if (fullRepaintNeeded) {
+            surface.copyAll(field);
+            drawnScores[0] = -1;
+            drawnScores[1] = -1;
+            fullRepaintNeeded = false;
+        } else {
+            for (int i = 0; i < dirtyRectCount; i++) {
+                int offset = i * 4;
+                restoreRegion(field, dirtyRects[offset], dirtyRects[offset + 1],
+                        dirtyRects[offset + 2], dirtyRects[offset + 3]);
+            }
+        }
+        dirtyRectCount = 0;
+
+        // Score, sous les éléments du jeu : redessiné seulement s'il a changé ou a été effacé
+        double canvasWidth = canvasRenderer.getCanvasWidth();
+        drawScore(0, player1Score, canvasWidth / 4, 60, field);
+        drawScore(1, player2Score, 3 * canvasWidth / 4, 60, field);
+
+        // Éléments du jeu
+        drawPaddle(leftPaddle, leftPaddle.getRenderY(alpha));
+        drawPaddle(rightPaddle, rightPaddle.getRenderY(alpha));
+        drawBall(ball, ball.getRenderX(alpha), ball.getRenderY(alpha));
+
+        // Publier les zones modifiées : l'ImageView sous le canvas ne retransfère qu'elles
+        surface.commit();
+        surfaceView.show();
+
+        // Textes en surimpression, redessinés seulement quand le message change
+        if (gameState != drawnState || (gameState == GameState.VICTORY && player1Score != drawnPlayer1Score)) {
+            surfaceView.clearCanvas();
+            canvasRenderer.drawStatusMessage(gameState, player1Score, player2Score);
+            canvasRenderer.getControlsLayer().drawOn(gc);
+            drawnState = gameState;
+            drawnPlayer1Score = player1Score;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        fullRepaintNeeded = true;
+        drawnState = null;
+    }
+
+    @Override
+    public void deactivate() {
+        surfaceView.hide();
+        drawnState = null; // Le renderer vectoriel recouvre le canvas
+    }
+
+    /**
+     * Restaurer une zone depuis le fond, en marquant les scores qu'elle recouvre
+     */
+    private void restoreRegion(int[] field, int x, int y, int width, int height) {
+        surface.copyRegion(field, x, y, width, height);
+        for (int slot = 0; slot < drawnScores.length; slot++) {
+            int offset = slot * 4;
+            if (drawnScores[slot] >= 0
+                    && x < scoreRects[offset] + scoreRects[offset + 2] && scoreRects[offset] < x + width
+                    && y < scoreRects[offset + 1] + scoreRects[offset + 3] && scoreRects[offset + 1] < y + height) {
+                scoreDamaged[slot] = true;
+            }
+        }
+    }
+
+    private void drawScore(int slot, int value, double x, double baseline, int[] field) {
+        if (drawnScores[slot] == value && !scoreDamaged[slot]) {
+            return;
+        }
+        int offset = slot * 4;
+        if (drawnScores[slot] >= 0) {
+            // Effacer l'ancien nombre en entier (il peut avoir plus de chiffres que le nouveau)
+            surface.copyRegion(field, scoreRects[offset], scoreRects[offset + 1],
+                    scoreRects[offset + 2], scoreRects[offset + 3]);
+        }
+        drawNumber(value, x, baseline, scoreRects, offset);
+        drawnScores[slot] = value;
+        scoreDamaged[slot] = false;
+    }
+
+    private void drawPaddle(Paddle paddle, double y) {
+        int x = (int) Math.round(paddle.getX());
+        int top = (int) Math.round(y);
+        int width = (int) paddle.getWidth();
+        int height = (int) paddle.getHeight();
+
+        SpriteAtlas.Sprite sprite = canvasRenderer.getPaddleSprite();
+        if (width == sprite.width && height == sprite.height) {
+            surface.blit(atlas.getPixels(sprite), sprite.width, sprite.height, x, top);
+        } else {
+            surface.fillRect(x, top, width, height, CYAN);
+            surface.fillRect(x + 2, top + 5, 3, height - 10, WHITE);
+        }
+        addDirtyRect(x, top, width, height);
+    }
+
+    private void drawBall(Ball ball, double ballX, double ballY) {
+        double size = ball.getSize();
+        double minX = ballX;
+        double minY = ballY;
+        double maxX = ballX + size;
+        double maxY = ballY + size;
+
+        // Traînée sur les positions réellement parcourues, de la plus ancienne à la plus récente
+        BallTrail trail = ball.getTrail();
+        double radius = size / 2;
+        for (int age = trail.size() - 1; age >= 0; age--) {
+            SpriteAtlas.Sprite sprite = canvasRenderer.getTrailSprite(age);
+            int x = (int) Math.round(trail.getX(age) + radius - sprite.width / 2.0);
+            int y = (int) Math.round(trail.getY(age) + radius - sprite.height / 2.0);
+            surface.blit(atlas.getPixels(sprite), sprite.width, sprite.height, x, y);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x + sprite.width);
+            maxY = Math.max(maxY, y + sprite.height);
+        }
+
+        // Balle principale
+        SpriteAtlas.Sprite sprite = canvasRenderer.getBallSprite();
+        if (size == sprite.width) {
+            surface.blit(atlas.getPixels(sprite), sprite.width, sprite.height,
+                    (int) Math.round(ballX), (int) Math.round(ballY));
+        } else {
+            surface.fillCircle(ballX + size / 2, ballY + size / 2, size / 2, WHITE, 1.0);
+        }
+
+        int x0 = (int) Math.floor(minX) - 1;
+        int y0 = (int) Math.floor(minY) - 1;
+        addDirtyRect(x0, y0, (int) Math.ceil(maxX) + 1 - x0, (int) Math.ceil(maxY) + 1 - y0);
+    }
+
+    /**
+     * Dessiner un nombre positif chiffre par chiffre depuis l'atlas
+     * @param bounds Reçoit la zone dessinée (x, y, largeur, hauteur) à partir de {@code offset}
+     */
+    private void drawNumber(int value, double x, double baseline, int[] bounds, int offset) {
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        double advance = canvasRenderer.getDigitAdvance();
+        int top = (int) Math.round(baseline - canvasRenderer.getDigitBaseline());
+        int rest = Math.max(0, value);
+        SpriteAtlas.Sprite sprite = null;
+        for (int i = digits - 1; i >= 0; i--) {
+            sprite = canvasRenderer.getDigitSprite(rest % 10);
+            surface.blit(atlas.getPixels(sprite), sprite.width, sprite.height,
+                    (int) Math.round(x + i * advance), top);
+            rest /= 10;
+        }
+        bounds[offset] = (int) Math.round(x);
+        bounds[offset + 1] = top;
+        bounds[offset + 2] = (int) Math.ceil(digits * advance) + 1;
+        bounds[offset + 3] = sprite.height;
+    }
+
+    private void addDirtyRect(int x, int y, int width, int height) {
+        if (dirtyRectCount == MAX_DIRTY_RECTS) {
+            fullRepaintNeeded = true; // Trop de zones : rendu complet à la prochaine frame
+            return;
+        }
+        int offset = dirtyRectCount++ * 4;
+        dirtyRects[offset] = x;
+        dirtyRects[offset + 1] = y;
+        dirtyRects[offset + 2] = width;
+        dirtyRects[offset + 3] = height;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.snakegame.pong;
+
+import org.example.snakegame.common.GameState;
+
+/**
+ * Backend de rendu du jeu Pong
+ * Permet de choisir à l'exécution entre le rendu vectoriel (GraphicsContext)
+ * et le rendu en pixels directs (PixelBuffer)
+ */
+public interface PongRenderBackend {
+
+    /**
+     * Dessiner l'état courant du jeu
+     * @param alpha Facteur d'interpolation entre la frame précédente et la courante
+     */
+    void render(Paddle leftPaddle, Paddle rightPaddle, Ball ball,
+                int player1Score, int player2Score, GameState gameState, double alpha);
+
+    /**
+     * Forcer un rendu complet au prochain appel de render()
+     */
+    void invalidate();
+
+    /**
+     * Le backend cesse d'être affiché (bascule vers un autre backend)
+     */
+    default void deactivate() {
+    }
+}
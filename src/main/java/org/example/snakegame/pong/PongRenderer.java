@@ -2,7 +2,11 @@ package org.example.snakegame.pong;
 
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import org.example.snakegame.common.CachedLayer;
 import org.example.snakegame.common.GameState;
+import org.example.snakegame.common.SpriteAtlas;
 import org.example.snakegame.common.ValidationUtils;
 
 /**
@@ -16,12 +20,33 @@ import org.example.snakegame.common.ValidationUtils;
  * - Rendu du score
  * - Rendu des messages d'état
  */
-public class PongRenderer {
+public class PongRenderer implements PongRenderBackend {
     
     private final GraphicsContext gc;
     private final double canvasWidth;
     private final double canvasHeight;
     private final int winningScore;
+
+    private static final Font SCORE_FONT = Font.font("Courier New", 48);
+    private static final Font STATUS_FONT = Font.font("Courier New", 16);
+    private static final Font CONTROLS_FONT = Font.font("Courier New", 12);
+    private static final Color CONTROLS_COLOR = Color.rgb(255, 255, 255, 0.5);
+    private static final String PLAYER_WINS_MESSAGE = "JOUEUR 1 GAGNE ! - Appuyez sur R pour rejouer";
+    private static final String AI_WINS_MESSAGE = "IA GAGNE ! - Appuyez sur R pour rejouer";
+    private static final int ATLAS_WIDTH = 512;
+
+    // Sprites pré-rastérisés : raquette, balle, traînée et chiffres du score
+    private final SpriteAtlas atlas;
+    private final SpriteAtlas.Sprite paddleSprite;
+    private final SpriteAtlas.Sprite ballSprite;
+    private final SpriteAtlas.Sprite[] trailSprites;
+    private final SpriteAtlas.Sprite[] digitSprites;
+    private final double digitAdvance;
+    private final double digitBaseline;
+
+    // Terrain (fond + ligne centrale) et aide des contrôles, rastérisés une seule fois
+    private final CachedLayer fieldLayer;
+    private final CachedLayer controlsLayer;
     
     /**
      * Constructeur
@@ -37,28 +62,78 @@ public class PongRenderer {
         this.canvasWidth = canvasWidth;
         this.canvasHeight = canvasHeight;
         this.winningScore = ValidationUtils.requirePositive(winningScore, "winningScore");
+        this.fieldLayer = new CachedLayer(canvasWidth, canvasHeight, target -> {
+            clear(target);
+            drawField(target);
+        });
+        this.controlsLayer = new CachedLayer(canvasWidth, canvasHeight, this::drawControls);
+
+        // Atlas : raquette et balle aux dimensions du jeu, chiffres 0-9 du score
+        this.atlas = new SpriteAtlas(ATLAS_WIDTH);
+        this.paddleSprite = atlas.add(PongSimulation.PADDLE_WIDTH, PongSimulation.PADDLE_HEIGHT,
+                target -> paintPaddle(target, 0, 0, PongSimulation.PADDLE_WIDTH, PongSimulation.PADDLE_HEIGHT));
+        this.ballSprite = atlas.add(PongSimulation.BALL_SIZE, PongSimulation.BALL_SIZE, target -> {
+            target.setFill(Color.WHITE);
+            target.fillOval(0, 0, PongSimulation.BALL_SIZE, PongSimulation.BALL_SIZE);
+        });
+
+        // Traînée : une balle réduite et estompée par âge, transparence déjà appliquée
+        this.trailSprites = new SpriteAtlas.Sprite[Ball.TRAIL_LENGTH];
+        for (int age = 0; age < Ball.TRAIL_LENGTH; age++) {
+            double fade = 1.0 - (double)(age + 1) / (Ball.TRAIL_LENGTH + 1);
+            int diameter = Math.max(1, (int) Math.round(PongSimulation.BALL_SIZE * fade));
+            Color color = Color.rgb(255, 255, 255, fade * 0.5);
+            trailSprites[age] = atlas.add(diameter, diameter, target -> {
+                target.setFill(color);
+                target.fillOval(0, 0, diameter, diameter);
+            });
+        }
+
+        Text metrics = new Text("0");
+        metrics.setFont(SCORE_FONT);
+        this.digitAdvance = metrics.getLayoutBounds().getWidth();
+        this.digitBaseline = Math.ceil(metrics.getBaselineOffset());
+        int glyphWidth = (int) Math.ceil(digitAdvance);
+        int glyphHeight = (int) Math.ceil(metrics.getLayoutBounds().getHeight());
+        this.digitSprites = new SpriteAtlas.Sprite[10];
+        for (int digit = 0; digit < 10; digit++) {
+            String glyph = String.valueOf(digit);
+            digitSprites[digit] = atlas.add(glyphWidth, glyphHeight, target -> {
+                target.setFill(Color.WHITE);
+                target.setFont(SCORE_FONT);
+                target.fillText(glyph, 0, digitBaseline);
+            });
+        }
     }
     
     /**
      * Effacer le canvas
      */
     public void clear() {
-        gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, canvasWidth, canvasHeight);
+        clear(gc);
+    }
+
+    private void clear(GraphicsContext target) {
+        target.setFill(Color.BLACK);
+        target.fillRect(0, 0, canvasWidth, canvasHeight);
     }
     
     /**
      * Dessiner le terrain de jeu (ligne centrale)
      */
     public void drawField() {
+        drawField(gc);
+    }
+
+    private void drawField(GraphicsContext target) {
         // Ligne centrale en pointillés
-        gc.setStroke(Color.CYAN);
-        gc.setLineWidth(3);
+        target.setStroke(Color.CYAN);
+        target.setLineWidth(3);
         
         double dashLength = 15;
         double gapLength = 10;
         for (double y = dashLength; y < canvasHeight; y += dashLength + gapLength) {
-            gc.strokeLine(canvasWidth/2, y, canvasWidth/2,
+            target.strokeLine(canvasWidth/2, y, canvasWidth/2,
                     Math.min(y + dashLength, canvasHeight));
         }
     }
@@ -69,25 +144,45 @@ public class PongRenderer {
      * @param rightPaddle Raquette droite
      */
     public void drawPaddles(Paddle leftPaddle, Paddle rightPaddle) {
+        drawPaddles(leftPaddle, rightPaddle, 1.0);
+    }
+
+    /**
+     * Dessiner les raquettes à une position interpolée
+     * @param alpha Facteur d'interpolation entre la frame précédente et la courante
+     */
+    public void drawPaddles(Paddle leftPaddle, Paddle rightPaddle, double alpha) {
         ValidationUtils.requireNonNull(leftPaddle, "leftPaddle");
         ValidationUtils.requireNonNull(rightPaddle, "rightPaddle");
-        
-        gc.setFill(Color.CYAN);
-        
+
         // Raquette gauche (Joueur 1)
-        gc.fillRect(leftPaddle.getX(), leftPaddle.getY(),
-                leftPaddle.getWidth(), leftPaddle.getHeight());
+        drawPaddle(leftPaddle, leftPaddle.getRenderY(alpha));
         
         // Raquette droite (IA)
-        gc.fillRect(rightPaddle.getX(), rightPaddle.getY(),
-                rightPaddle.getWidth(), rightPaddle.getHeight());
+        drawPaddle(rightPaddle, rightPaddle.getRenderY(alpha));
+    }
+
+    /**
+     * Dessiner une raquette depuis l'atlas (dessin vectoriel si dimensions non standard)
+     */
+    private void drawPaddle(Paddle paddle, double y) {
+        if (paddle.getWidth() == paddleSprite.width && paddle.getHeight() == paddleSprite.height) {
+            atlas.draw(gc, paddleSprite, paddle.getX(), y);
+        } else {
+            paintPaddle(gc, paddle.getX(), y, paddle.getWidth(), paddle.getHeight());
+        }
+    }
+
+    /**
+     * Dessin vectoriel d'une raquette (rastérisé dans l'atlas)
+     */
+    private static void paintPaddle(GraphicsContext target, double x, double y, double width, double height) {
+        target.setFill(Color.CYAN);
+        target.fillRect(x, y, width, height);
         
-        // Effet de brillance sur les raquettes
-        gc.setFill(Color.WHITE);
-        gc.fillRect(leftPaddle.getX() + 2, leftPaddle.getY() + 5,
-                3, leftPaddle.getHeight() - 10);
-        gc.fillRect(rightPaddle.getX() + 2, rightPaddle.getY() + 5,
-                3, rightPaddle.getHeight() - 10);
+        // Effet de brillance sur la raquette
+        target.setFill(Color.WHITE);
+        target.fillRect(x + 2, y + 5, 3, height - 10);
     }
     
     /**
@@ -95,24 +190,30 @@ public class PongRenderer {
      * @param ball Balle à dessiner
      */
     public void drawBall(Ball ball) {
+        drawBall(ball, 1.0);
+    }
+
+    /**
+     * Dessiner la balle à une position interpolée
+     * @param interpolation Facteur d'interpolation entre la frame précédente et la courante
+     */
+    public void drawBall(Ball ball, double interpolation) {
         ValidationUtils.requireNonNull(ball, "ball");
+
+        double ballX = ball.getRenderX(interpolation);
+        double ballY = ball.getRenderY(interpolation);
         
-        // Effet de traînée selon la vitesse
-        double speed = ball.getTotalVelocity();
-        int trailLength = (int)(speed * 2);
-        
-        for (int i = 1; i <= trailLength; i++) {
-            double trailX = ball.getX() - (ball.getVelocityX() / speed) * i * 3;
-            double trailY = ball.getY() - (ball.getVelocityY() / speed) * i * 3;
-            double alpha = 1.0 - (double)i / trailLength;
-            
-            gc.setFill(Color.rgb(255, 255, 255, alpha * 0.5));
-            gc.fillOval(trailX, trailY, ball.getSize() * alpha, ball.getSize() * alpha);
+        // Traînée sur les positions réellement parcourues, de la plus ancienne à la plus récente
+        BallTrail trail = ball.getTrail();
+        double radius = ball.getSize() / 2;
+        for (int age = trail.size() - 1; age >= 0; age--) {
+            SpriteAtlas.Sprite sprite = trailSprites[age];
+            atlas.draw(gc, sprite, trail.getX(age) + radius - sprite.width / 2.0,
+                    trail.getY(age) + radius - sprite.height / 2.0);
         }
         
         // Balle principale
-        gc.setFill(Color.WHITE);
-        gc.fillOval(ball.getX(), ball.getY(), ball.getSize(), ball.getSize());
+        atlas.draw(gc, ballSprite, ballX, ballY, ball.getSize(), ball.getSize());
     }
     
     /**
@@ -121,16 +222,29 @@ public class PongRenderer {
      * @param player2Score Score du joueur 2 (IA)
      */
     public void drawScore(int player1Score, int player2Score) {
-        gc.setFill(Color.WHITE);
-        gc.setFont(javafx.scene.text.Font.font("Courier New", 48));
-        
         // Score joueur 1 (gauche)
-        String score1 = String.valueOf(player1Score);
-        gc.fillText(score1, canvasWidth/4, 60);
+        drawNumber(player1Score, canvasWidth/4, 60);
         
         // Score IA (droite)
-        String score2 = String.valueOf(player2Score);
-        gc.fillText(score2, 3*canvasWidth/4, 60);
+        drawNumber(player2Score, 3*canvasWidth/4, 60);
+    }
+
+    /**
+     * Dessiner un nombre positif chiffre par chiffre depuis l'atlas
+     * @param x Bord gauche du texte
+     * @param baseline Ligne de base du texte
+     */
+    private void drawNumber(int value, double x, double baseline) {
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        double top = baseline - digitBaseline;
+        int rest = Math.max(0, value);
+        for (int i = digits - 1; i >= 0; i--) {
+            atlas.draw(gc, digitSprites[rest % 10], x + i * digitAdvance, top);
+            rest /= 10;
+        }
     }
     
     /**
@@ -143,15 +257,12 @@ public class PongRenderer {
         ValidationUtils.requireNonNull(gameState, "gameState");
         
         gc.setFill(Color.WHITE);
-        gc.setFont(javafx.scene.text.Font.font("Courier New", 16));
+        gc.setFont(STATUS_FONT);
         
         String message = switch (gameState) {
             case WAITING_RESTART -> "Appuyez sur ENTRÉE pour commencer !";
             case PAUSED -> "JEU EN PAUSE - Appuyez sur ESPACE";
-            case VICTORY -> {
-                String winner = player1Score >= winningScore ? "JOUEUR 1" : "IA";
-                yield winner + " GAGNE ! - Appuyez sur R pour rejouer";
-            }
+            case VICTORY -> player1Score >= winningScore ? PLAYER_WINS_MESSAGE : AI_WINS_MESSAGE;
             default -> "";
         };
         
@@ -164,11 +275,24 @@ public class PongRenderer {
      * Dessiner les instructions de contrôle
      */
     public void drawControls() {
-        gc.setFill(Color.rgb(255, 255, 255, 0.5));
-        gc.setFont(javafx.scene.text.Font.font("Courier New", 12));
+        drawControls(gc);
+    }
+
+    private void drawControls(GraphicsContext target) {
+        target.setFill(CONTROLS_COLOR);
+        target.setFont(CONTROLS_FONT);
         
-        gc.fillText("Contrôles: ↑↓ ou Z/S", 10, canvasHeight - 10);
-        gc.fillText("Difficulté IA: 1(Facile) 2(Moyen) 3(Difficile)", canvasWidth - 300, canvasHeight - 10);
+        target.fillText("Contrôles: ↑↓ ou Z/S", 10, canvasHeight - 10);
+        target.fillText("Difficulté IA: 1(Facile) 2(Moyen) 3(Difficile)", canvasWidth - 300, canvasHeight - 10);
+    }
+
+    /**
+     * Redessiner les calques statiques à la prochaine frame (changement de thème)
+     */
+    public void invalidateStaticLayers() {
+        fieldLayer.invalidate();
+        controlsLayer.invalidate();
+        atlas.invalidate();
     }
     
     /**
@@ -182,15 +306,22 @@ public class PongRenderer {
      */
     public void render(Paddle leftPaddle, Paddle rightPaddle, Ball ball, 
                       int player1Score, int player2Score, GameState gameState) {
-        // Effacer le canvas
-        clear();
-        
-        // Dessiner le terrain
-        drawField();
+        render(leftPaddle, rightPaddle, ball, player1Score, player2Score, gameState, 1.0);
+    }
+
+    /**
+     * Rendu complet du jeu avec interpolation des éléments mobiles
+     * @param alpha Facteur d'interpolation entre la frame précédente et la courante
+     */
+    @Override
+    public void render(Paddle leftPaddle, Paddle rightPaddle, Ball ball,
+                      int player1Score, int player2Score, GameState gameState, double alpha) {
+        // Fond et terrain depuis le calque en cache
+        fieldLayer.drawOn(gc);
         
         // Dessiner les éléments du jeu
-        drawPaddles(leftPaddle, rightPaddle);
-        drawBall(ball);
+        drawPaddles(leftPaddle, rightPaddle, alpha);
+        drawBall(ball, alpha);
         
         // Dessiner le score
         drawScore(player1Score, player2Score);
@@ -198,7 +329,28 @@ public class PongRenderer {
         // Dessiner les messages d'état
         drawStatusMessage(gameState, player1Score, player2Score);
         
-        // Dessiner les contrôles
-        drawControls();
+        // Dessiner les contrôles (calque transparent au premier plan)
+        controlsLayer.drawOn(gc);
     }
+
+    /**
+     * Chaque frame est déjà un rendu complet
+     */
+    @Override
+    public void invalidate() {
+        // Rien à invalider
+    }
+
+    // Accès pour le backend en pixels directs (mêmes calques et sprites)
+    CachedLayer getFieldLayer() { return fieldLayer; }
+    CachedLayer getControlsLayer() { return controlsLayer; }
+    SpriteAtlas getAtlas() { return atlas; }
+    SpriteAtlas.Sprite getPaddleSprite() { return paddleSprite; }
+    SpriteAtlas.Sprite getBallSprite() { return ballSprite; }
+    SpriteAtlas.Sprite getTrailSprite(int age) { return trailSprites[age]; }
+    SpriteAtlas.Sprite getDigitSprite(int digit) { return digitSprites[digit]; }
+    double getDigitAdvance() { return digitAdvance; }
+    double getDigitBaseline() { return digitBaseline; }
+    double getCanvasWidth() { return canvasWidth; }
+    double getCanvasHeight() { return canvasHeight; }
 }
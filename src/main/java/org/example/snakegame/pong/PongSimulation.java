@@ -0,0 +1,279 @@
+package org.example.snakegame.pong;
+
+import org.example.snakegame.common.GameRandom;
+import org.example.snakegame.common.ValidationUtils;
+
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Moteur de simulation Pong, indépendant de JavaFX
+ *
+ * Possède la balle, les raquettes, le score et la règle de victoire.
+ * Une frame correspond à un pas fixe (~16,67 ms dans le jeu). Aucune dépendance
+ * à l'affichage, au son ou à la sauvegarde : PongController ne fait que piloter
+ * la simulation et dessiner son état. {@link #advance(int)} permet de simuler des
+ * milliers de frames d'un coup pour régler l'IA et la physique hors ligne.
+ */
+public class PongSimulation {
+
+    // Dimensions et règles par défaut
+    public static final int FIELD_WIDTH = 800;
+    public static final int FIELD_HEIGHT = 600;
+    public static final int PADDLE_WIDTH = 15;
+    public static final int PADDLE_HEIGHT = 80;
+    public static final int BALL_SIZE = 15;
+    public static final int WINNING_SCORE = 5;
+    private static final double BALL_INITIAL_SPEED = 3.0;
+    private static final double PADDLE_SPEED = 5;
+    private static final double PADDLE_MARGIN = 30;
+    private static final double DEFAULT_AI_DIFFICULTY = 0.7;
+
+    /**
+     * Résultat d'une frame de simulation
+     */
+    public enum FrameResult {
+        PLAYING,     // La balle est en jeu
+        GOAL,        // Un point a été marqué
+        MATCH_OVER,  // Un joueur a atteint le score de victoire
+        FINISHED     // Match déjà terminé, rien n'a été simulé
+    }
+
+    /**
+     * Écouteur des événements de la simulation (implémentations par défaut vides)
+     */
+    public interface Listener {
+
+        /**
+         * La balle a touché une raquette
+         * @param leftPaddle true pour la raquette du joueur (gauche)
+         */
+        default void onPaddleHit(boolean leftPaddle) {
+            // Implémentation par défaut vide
+        }
+
+        /**
+         * Un point a été marqué
+         * @param player1Scored true si le joueur 1 a marqué
+         */
+        default void onGoal(boolean player1Scored) {
+            // Implémentation par défaut vide
+        }
+    }
+
+    private static final Listener NO_LISTENER = new Listener() { };
+
+    private final int fieldWidth;
+    private final int fieldHeight;
+    private final int winningScore;
+    private final SplittableGenerator random;
+    private Listener listener = NO_LISTENER;
+
+    private Ball ball;
+    private Paddle leftPaddle;
+    private Paddle rightPaddle;
+    private double aiDifficulty;
+
+    // Entrées du joueur (raquette gauche)
+    private boolean playerUp;
+    private boolean playerDown;
+
+    private int player1Score;
+    private int player2Score;
+    private int maxBounceCount;
+    private int totalBounces;
+    private long frames;
+
+    /**
+     * Constructeur avec les dimensions du jeu
+     */
+    public PongSimulation() {
+        this(FIELD_WIDTH, FIELD_HEIGHT, WINNING_SCORE);
+    }
+
+    /**
+     * Constructeur
+     * @param fieldWidth Largeur du terrain en pixels
+     * @param fieldHeight Hauteur du terrain en pixels
+     * @param winningScore Score pour gagner
+     */
+    public PongSimulation(int fieldWidth, int fieldHeight, int winningScore) {
+        this(fieldWidth, fieldHeight, winningScore, GameRandom.split());
+    }
+
+    /**
+     * Constructeur avec générateur dédié (matchs reproductibles)
+     * @param random Générateur de la simulation, divisé pour la balle et chaque raquette
+     */
+    public PongSimulation(int fieldWidth, int fieldHeight, int winningScore, SplittableGenerator random) {
+        this.random = ValidationUtils.requireNonNull(random, "random");
+        this.fieldWidth = ValidationUtils.requirePositive(fieldWidth, "fieldWidth");
+        this.fieldHeight = ValidationUtils.requirePositive(fieldHeight, "fieldHeight");
+        this.winningScore = ValidationUtils.requirePositive(winningScore, "winningScore");
+        reset();
+    }
+
+    /**
+     * Enregistrer l'écouteur des événements
+     */
+    public void setListener(Listener listener) {
+        this.listener = ValidationUtils.requireNonNull(listener, "listener");
+    }
+
+    /**
+     * Réinitialiser un nouveau match
+     */
+    public void reset() {
+        // Créer la balle au centre
+        ball = new Ball(fieldWidth, fieldHeight, BALL_SIZE, BALL_INITIAL_SPEED, random.split());
+
+        // Créer les raquettes
+        double leftPaddleX = PADDLE_MARGIN;
+        double rightPaddleX = fieldWidth - PADDLE_MARGIN - PADDLE_WIDTH;
+
+        leftPaddle = new Paddle(
+                leftPaddleX, 0, PADDLE_WIDTH, PADDLE_HEIGHT, PADDLE_SPEED,
+                fieldHeight, Paddle.PaddleType.PLAYER_LEFT, random.split()
+        );
+
+        rightPaddle = new Paddle(
+                rightPaddleX, 0, PADDLE_WIDTH, PADDLE_HEIGHT, PADDLE_SPEED,
+                fieldHeight, Paddle.PaddleType.AI_RIGHT, random.split()
+        );
+        // Configurer l'IA par défaut (difficulté moyenne)
+        aiDifficulty = DEFAULT_AI_DIFFICULTY;
+        rightPaddle.setAIDifficulty(aiDifficulty);
+
+        playerUp = false;
+        playerDown = false;
+        player1Score = 0;
+        player2Score = 0;
+        maxBounceCount = 0;
+        totalBounces = 0;
+        frames = 0;
+    }
+
+    /**
+     * Définir les entrées du joueur pour les frames suivantes
+     * @param up Flèche haut enfoncée
+     * @param down Flèche bas enfoncée
+     */
+    public void setPlayerInput(boolean up, boolean down) {
+        this.playerUp = up;
+        this.playerDown = down;
+    }
+
+    /**
+     * Régler la difficulté de l'IA (0.1 à 1.0)
+     */
+    public void setAIDifficulty(double difficulty) {
+        this.aiDifficulty = difficulty;
+        rightPaddle.setAIDifficulty(difficulty);
+    }
+
+    /**
+     * Simuler une frame
+     */
+    public FrameResult step() {
+        if (isMatchOver()) {
+            return FrameResult.FINISHED;
+        }
+        frames++;
+
+        // Positions de début de frame pour l'interpolation du rendu
+        leftPaddle.storePreviousPosition();
+        rightPaddle.storePreviousPosition();
+        ball.storePreviousPosition();
+
+        // Mettre à jour les raquettes
+        if (playerUp && leftPaddle.canMoveUp()) {
+            leftPaddle.moveUp();
+        }
+        if (playerDown && leftPaddle.canMoveDown()) {
+            leftPaddle.moveDown();
+        }
+        rightPaddle.updateAI(ball);
+
+        // Mettre à jour la balle
+        ball.move();
+
+        // Vérifier les collisions avec les raquettes
+        if (leftPaddle.collidesWith(ball)) {
+            leftPaddle.handleBallCollision(ball);
+            listener.onPaddleHit(true);
+        }
+        if (rightPaddle.collidesWith(ball)) {
+            rightPaddle.handleBallCollision(ball);
+            listener.onPaddleHit(false);
+        }
+
+        // Vérifier les goals
+        Ball.GoalResult goalResult = ball.checkGoal();
+        if (goalResult == Ball.GoalResult.NO_GOAL) {
+            return FrameResult.PLAYING;
+        }
+
+        maxBounceCount = Math.max(maxBounceCount, ball.getBounceCount());
+        totalBounces += ball.getBounceCount();
+
+        boolean player1Scored = goalResult == Ball.GoalResult.PLAYER_1_GOAL;
+        if (player1Scored) {
+            player1Score++;
+        } else {
+            player2Score++;
+        }
+        ball.reset();
+        listener.onGoal(player1Scored);
+
+        // Vérifier les conditions de victoire
+        return isMatchOver() ? FrameResult.MATCH_OVER : FrameResult.GOAL;
+    }
+
+    /**
+     * Simuler plusieurs frames à pas fixe
+     * S'arrête à la fin du match
+     * @param frameCount Nombre de frames demandées
+     * @return Nombre de frames réellement simulées
+     */
+    public int advance(int frameCount) {
+        int executed = 0;
+        while (executed < frameCount && !isMatchOver()) {
+            step();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * Vérifier si un joueur a atteint le score de victoire
+     */
+    public boolean isMatchOver() {
+        return player1Score >= winningScore || player2Score >= winningScore;
+    }
+
+    /**
+     * Vérifier si le joueur 1 a gagné le match
+     */
+    public boolean isPlayerWinner() {
+        return player1Score >= winningScore;
+    }
+
+    // Getters
+    public Ball getBall() { return ball; }
+    public Paddle getLeftPaddle() { return leftPaddle; }
+    public Paddle getRightPaddle() { return rightPaddle; }
+    public int getPlayer1Score() { return player1Score; }
+    public int getPlayer2Score() { return player2Score; }
+    public int getMaxBounceCount() { return maxBounceCount; }
+    public int getTotalBounces() { return totalBounces; }
+    public double getAIDifficulty() { return aiDifficulty; }
+    public long getFrames() { return frames; }
+    public int getFieldWidth() { return fieldWidth; }
+    public int getFieldHeight() { return fieldHeight; }
+    public int getWinningScore() { return winningScore; }
+
+    @Override
+    public String toString() {
+        return String.format("PongSimulation[frames=%d, score=%d-%d, ball=%s]",
+                frames, player1Score, player2Score, ball);
+    }
+}
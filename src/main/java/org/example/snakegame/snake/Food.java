@@ -1,9 +1,11 @@
 package org.example.snakegame.snake;
 
+import org.example.snakegame.common.GameClock;
+import org.example.snakegame.common.GameRandom;
 import org.example.snakegame.common.Point;
+import org.example.snakegame.common.ValidationUtils;
 
-import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Classe Food - Représente la nourriture du serpent avec toute sa logique
@@ -13,9 +15,11 @@ public class Food {
     private Point position;
     private FoodType type;
     private int value;
-    private final Random random;
+    private final RandomGenerator random;
+    private final GameClock clock;
     private long creationTime;
     private boolean isSpecialFood;
+    private Food source = this; // Nourriture de la simulation représentée (copyFrom)
 
     /**
      * Types de nourriture possibles
@@ -41,13 +45,23 @@ public class Food {
     }
 
     /**
-     * Constructeur de la nourriture
+     * Constructeur de la nourriture (générateur dérivé de la session)
      */
     public Food() {
-        this.random = new Random();
+        this(GameRandom.split(), GameClock.system());
+    }
+
+    /**
+     * Constructeur avec générateur aléatoire et horloge dédiés
+     * @param random Générateur propre à cette nourriture
+     * @param clock Horloge du jeu (durée de vie des nourritures spéciales)
+     */
+    public Food(RandomGenerator random, GameClock clock) {
+        this.random = ValidationUtils.requireNonNull(random, "random");
+        this.clock = ValidationUtils.requireNonNull(clock, "clock");
         this.type = FoodType.NORMAL;
         this.value = type.getPoints();
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = clock.millis();
         this.isSpecialFood = false;
     }
 
@@ -62,48 +76,43 @@ public class Food {
     }
 
     /**
-     * Générer une nouvelle position pour la nourriture
+     * Copier l'état d'une autre nourriture (instantané pour le rendu)
+     * Les temps sont interprétés avec l'horloge de cette instance.
      */
-    public void generateNewPosition(int boardWidth, int boardHeight, List<Point> obstacles) {
-        Point newPosition;
-        int attempts = 0;
-        final int maxAttempts = 100;
-
-        do {
-            int x = random.nextInt(boardWidth);
-            int y = random.nextInt(boardHeight);
-            newPosition = new Point(x, y);
-            attempts++;
-
-            // Éviter une boucle infinie si le plateau est presque plein
-            if (attempts >= maxAttempts) {
-                newPosition = findFirstFreePosition(boardWidth, boardHeight, obstacles);
-                break;
-            }
-
-        } while (obstacles.contains(newPosition));
-
-        this.position = newPosition;
-        this.creationTime = System.currentTimeMillis();
+    public void copyFrom(Food other) {
+        this.position = other.position;
+        this.type = other.type;
+        this.value = other.value;
+        this.creationTime = other.creationTime;
+        this.isSpecialFood = other.isSpecialFood;
+        this.source = other.source;
+    }
 
-        // Déterminer le type de nourriture
-        determineType();
+    /**
+     * Nourriture de la simulation représentée : elle-même, ou celle copiée par {@link #copyFrom(Food)}
+     */
+    public Food getSource() {
+        return source;
     }
 
     /**
-     * Trouver la première position libre (méthode de secours)
+     * Générer une nouvelle position pour la nourriture
+     * Tirage uniforme parmi les cellules libres, en O(1) quel que soit le remplissage
+     * @param freeCells Index des cellules libres du plateau
+     * @return false si le plateau est plein (aucune position possible)
      */
-    private Point findFirstFreePosition(int boardWidth, int boardHeight, List<Point> obstacles) {
-        for (int y = 0; y < boardHeight; y++) {
-            for (int x = 0; x < boardWidth; x++) {
-                Point candidate = new Point(x, y);
-                if (!obstacles.contains(candidate)) {
-                    return candidate;
-                }
-            }
+    public boolean generateNewPosition(FreeCellIndex freeCells) {
+        int cell = freeCells.randomFreeCell(random);
+        if (cell < 0) {
+            return false;
         }
-        // Si vraiment aucune position libre, retourner le centre
-        return new Point(boardWidth / 2, boardHeight / 2);
+
+        this.position = freeCells.pointOf(cell);
+        this.creationTime = clock.millis();
+
+        // Déterminer le type de nourriture
+        determineType();
+        return true;
     }
 
     /**
@@ -144,15 +153,7 @@ public class Food {
             return false; // La nourriture normale n'expire jamais
         }
 
-        long currentTime = System.currentTimeMillis();
-        long lifetime = switch (type) {
-            case BONUS -> 15000;      // 15 secondes
-            case SUPER_BONUS -> 10000; // 10 secondes
-            case SPEED_UP, SLOW_DOWN, MULTI_GROW -> 12000; // 12 secondes
-            default -> Long.MAX_VALUE;
-        };
-
-        return (currentTime - creationTime) > lifetime;
+        return (clock.millis() - creationTime) > getLifetime();
     }
 
     /**
@@ -163,16 +164,20 @@ public class Food {
             return Long.MAX_VALUE;
         }
 
-        long currentTime = System.currentTimeMillis();
-        long lifetime = switch (type) {
-            case BONUS -> 15000;
-            case SUPER_BONUS -> 10000;
-            case SPEED_UP, SLOW_DOWN, MULTI_GROW -> 12000;
+        long elapsed = clock.millis() - creationTime;
+        return Math.max(0, (getLifetime() - elapsed) / 1000);
+    }
+
+    /**
+     * Durée de vie de la nourriture en millisecondes
+     */
+    private long getLifetime() {
+        return switch (type) {
+            case BONUS -> 15000;      // 15 secondes
+            case SUPER_BONUS -> 10000; // 10 secondes
+            case SPEED_UP, SLOW_DOWN, MULTI_GROW -> 12000; // 12 secondes
             default -> Long.MAX_VALUE;
         };
-
-        long elapsed = currentTime - creationTime;
-        return Math.max(0, (lifetime - elapsed) / 1000);
     }
 
     /**
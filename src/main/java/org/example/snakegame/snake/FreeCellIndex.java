@@ -0,0 +1,133 @@
+package org.example.snakegame.snake;
+
+import org.example.snakegame.common.Point;
+import org.example.snakegame.common.PointCache;
+import org.example.snakegame.common.ValidationUtils;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Index des cellules libres du plateau Snake
+ *
+ * Tableau dense des cellules libres + table de position (cellule -> index dans le tableau).
+ * Occuper une cellule la retire par échange avec la dernière (swap-remove), la libérer
+ * l'ajoute en fin de tableau : les deux opérations sont en O(1), et le tirage d'une
+ * cellule libre uniformément aléatoire aussi, quel que soit le taux de remplissage.
+ *
+ * Une cellule est identifiée par son index linéaire {@code y * width + x}.
+ */
+public class FreeCellIndex {
+
+    private static final int NOT_FREE = -1;
+
+    private final int width;
+    private final int height;
+    private final int[] freeCells;
+    private final int[] positions;
+    private final PointCache points;
+    private int size;
+
+    /**
+     * Constructeur - toutes les cellules sont libres au départ
+     * @param width Largeur du plateau en cellules
+     * @param height Hauteur du plateau en cellules
+     */
+    public FreeCellIndex(int width, int height) {
+        this.width = ValidationUtils.requirePositive(width, "width");
+        this.height = ValidationUtils.requirePositive(height, "height");
+        int cellCount = width * height;
+        this.freeCells = new int[cellCount];
+        this.positions = new int[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            freeCells[cell] = cell;
+            positions[cell] = cell;
+        }
+        this.size = cellCount;
+        this.points = PointCache.forBoard(width, height);
+    }
+
+    /**
+     * Copier l'état d'un index de même taille (instantané pour le rendu)
+     */
+    void copyFrom(FreeCellIndex other) {
+        System.arraycopy(other.freeCells, 0, freeCells, 0, freeCells.length);
+        System.arraycopy(other.positions, 0, positions, 0, positions.length);
+        size = other.size;
+    }
+
+    /**
+     * Marquer une cellule comme occupée (swap-remove)
+     */
+    void markOccupied(int cell) {
+        int position = positions[cell];
+        if (position == NOT_FREE) {
+            return;
+        }
+        int last = freeCells[--size];
+        freeCells[position] = last;
+        positions[last] = position;
+        positions[cell] = NOT_FREE;
+    }
+
+    /**
+     * Marquer une cellule comme libre (ajout en fin de tableau)
+     */
+    void markFree(int cell) {
+        if (positions[cell] != NOT_FREE) {
+            return;
+        }
+        freeCells[size] = cell;
+        positions[cell] = size++;
+    }
+
+    /**
+     * Tirer une cellule libre uniformément au hasard
+     * @return Index linéaire de la cellule, ou -1 si le plateau est plein
+     */
+    public int randomFreeCell(RandomGenerator random) {
+        if (size == 0) {
+            return NOT_FREE;
+        }
+        return freeCells[random.nextInt(size)];
+    }
+
+    /**
+     * Vérifier si une cellule est libre
+     */
+    public boolean isFree(int cell) {
+        return positions[cell] != NOT_FREE;
+    }
+
+    /**
+     * Nombre de cellules libres
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Vérifier si le plateau est plein
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Index linéaire d'une cellule (x, y)
+     */
+    public int cellOf(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Point canonique d'une cellule (aucune allocation)
+     */
+    public Point pointOf(int cell) {
+        return points.getByIndex(cell);
+    }
+
+    public int cellX(int cell) { return cell % width; }
+    public int cellY(int cell) { return cell / width; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
@@ -0,0 +1,127 @@
+package org.example.snakegame.snake;
+
+import org.example.snakegame.common.ValidationUtils;
+
+/**
+ * Grille d'occupation du plateau Snake
+ *
+ * Un compteur par cellule, mis à jour de façon incrémentale par le serpent :
+ * +1 quand la tête entre dans une cellule, -1 quand la queue la quitte.
+ * Un compteur supérieur à 1 signifie que deux segments se chevauchent (collision).
+ * Les cellules hors du plateau sont ignorées (la collision avec les murs est gérée à part).
+ * Les passages 0 <-> 1 sont répercutés sur un {@link FreeCellIndex} pour le placement
+ * de la nourriture.
+ */
+public class OccupancyGrid {
+
+    private final int width;
+    private final int height;
+    private final int[] counts;
+    private final FreeCellIndex freeCells;
+    private int occupiedCells;
+
+    /**
+     * Constructeur
+     * @param width Largeur du plateau en cellules
+     * @param height Hauteur du plateau en cellules
+     */
+    public OccupancyGrid(int width, int height) {
+        this.width = ValidationUtils.requirePositive(width, "width");
+        this.height = ValidationUtils.requirePositive(height, "height");
+        this.counts = new int[width * height];
+        this.freeCells = new FreeCellIndex(width, height);
+        this.occupiedCells = 0;
+    }
+
+    /**
+     * Copier l'état d'une grille de même taille (instantané pour le rendu)
+     */
+    void copyFrom(OccupancyGrid other) {
+        if (other.width != width || other.height != height) {
+            throw new IllegalArgumentException("Grid size mismatch");
+        }
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        freeCells.copyFrom(other.freeCells);
+        occupiedCells = other.occupiedCells;
+    }
+
+    /**
+     * Un segment entre dans la cellule (x, y)
+     */
+    void enter(int x, int y) {
+        if (!isInBounds(x, y)) {
+            return;
+        }
+        int cell = y * width + x;
+        if (counts[cell]++ == 0) {
+            occupiedCells++;
+            freeCells.markOccupied(cell);
+        }
+    }
+
+    /**
+     * Un segment quitte la cellule (x, y)
+     */
+    void leave(int x, int y) {
+        if (!isInBounds(x, y)) {
+            return;
+        }
+        int cell = y * width + x;
+        if (--counts[cell] == 0) {
+            occupiedCells--;
+            freeCells.markFree(cell);
+        }
+    }
+
+    /**
+     * Vérifier si une cellule est dans les limites du plateau
+     */
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Nombre de segments présents dans la cellule (0 hors du plateau)
+     */
+    public int getCount(int x, int y) {
+        return isInBounds(x, y) ? counts[y * width + x] : 0;
+    }
+
+    /**
+     * Vérifier si la cellule est occupée par au moins un segment
+     */
+    public boolean isOccupied(int x, int y) {
+        return getCount(x, y) > 0;
+    }
+
+    /**
+     * Vérifier si la cellule est sur le plateau et libre
+     */
+    public boolean isFree(int x, int y) {
+        return isInBounds(x, y) && counts[y * width + x] == 0;
+    }
+
+    /**
+     * Nombre de cellules occupées par au moins un segment
+     */
+    public int getOccupiedCells() {
+        return occupiedCells;
+    }
+
+    /**
+     * Nombre de cellules libres sur le plateau
+     */
+    public int getFreeCells() {
+        return width * height - occupiedCells;
+    }
+
+    /**
+     * Obtenir l'index des cellules libres (placement de la nourriture)
+     */
+    public FreeCellIndex getFreeCellIndex() {
+        return freeCells;
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
@@ -0,0 +1,16 @@
+package org.example.snakegame.snake;
+
+/**
+ * Visiteur des segments du serpent (parcours sans allocation ni copie du corps)
+ */
+@FunctionalInterface
+public interface SegmentVisitor {
+
+    /**
+     * Appelé pour chaque segment, de la tête (index 0) vers la queue
+     * @param index Position du segment dans le corps
+     * @param x Coordonnée X de la cellule
+     * @param y Coordonnée Y de la cellule
+     */
+    void visit(int index, int x, int y);
+}
@@ -1,28 +1,58 @@
 package org.example.snakegame.snake;
 
 import org.example.snakegame.common.Direction;
+import org.example.snakegame.common.PackedCoords;
 import org.example.snakegame.common.Point;
+import org.example.snakegame.common.PointCache;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Classe Snake - Représente le serpent du jeu avec toute sa logique
+ *
+ * Le corps est stocké dans un buffer circulaire de cellules encodées en int :
+ * ajouter la tête et retirer la queue se font en O(1), sans allocation.
+ * Une grille d'occupation suit les cellules du corps pour répondre en O(1)
+ * aux tests de collision et d'appartenance.
  */
-public class Snake {
+public class Snake implements SnakeBodyView {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Buffer circulaire : la tête est à headIndex, la queue à headIndex + length - 1
+    private int[] cells;
+    private int mask;
+    private int headIndex;
+    private int length;
+
+    // Occupation du plateau, tenue à jour à chaque entrée de tête / sortie de queue
+    private final OccupancyGrid occupancy;
+    // Instances canoniques des cellules (getHead/getBody sans Point jetable)
+    private final PointCache points;
 
-    private final List<Point> body;
     private Direction currentDirection;
     private Direction nextDirection;
     private boolean growing;
     private int growthPending; // Nombre de segments à ajouter
+    private long moveCount; // Nombre total de déplacements (rendu incrémental)
+    private Snake source = this; // Serpent de la simulation représenté (copyFrom)
 
     /**
      * Constructeur du serpent
+     * @param startPosition Position initiale de la tête
+     * @param boardWidth Largeur du plateau en cellules
+     * @param boardHeight Hauteur du plateau en cellules
      */
-    public Snake(Point startPosition) {
-        body = new ArrayList<>();
-        body.add(startPosition);
+    public Snake(Point startPosition, int boardWidth, int boardHeight) {
+        occupancy = new OccupancyGrid(boardWidth, boardHeight);
+        points = PointCache.forBoard(boardWidth, boardHeight);
+        cells = new int[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+        headIndex = 0;
+        cells[headIndex] = PackedCoords.pack(startPosition.x, startPosition.y);
+        length = 1;
+        occupancy.enter(startPosition.x, startPosition.y);
         currentDirection = Direction.RIGHT;
         nextDirection = Direction.RIGHT;
         growing = false;
@@ -32,8 +62,8 @@ public class Snake {
     /**
      * Constructeur avec direction initiale personnalisée
      */
-    public Snake(Point startPosition, Direction initialDirection) {
-        this(startPosition);
+    public Snake(Point startPosition, Direction initialDirection, int boardWidth, int boardHeight) {
+        this(startPosition, boardWidth, boardHeight);
         this.currentDirection = initialDirection;
         this.nextDirection = initialDirection;
     }
@@ -46,14 +76,11 @@ public class Snake {
         currentDirection = nextDirection;
 
         // Calculer la nouvelle position de la tête
-        Point head = getHead();
-        Point newHead = head.move(currentDirection);
-
-        // Ajouter la nouvelle tête
-        body.add(0, newHead);
+        int newHead = PackedCoords.move(cells[headIndex], currentDirection);
 
         // Gérer la croissance
-        if (growing || growthPending > 0) {
+        boolean keepTail = growing || growthPending > 0;
+        if (keepTail) {
             if (growing) {
                 growing = false;
                 growthPending++; // Ajouter à la queue de croissance
@@ -61,10 +88,42 @@ public class Snake {
             if (growthPending > 0) {
                 growthPending--;
             }
+            ensureCapacity(length + 1);
         } else {
-            // Retirer la queue si pas de croissance
-            body.remove(body.size() - 1);
+            // Retirer la queue si pas de croissance (avant d'ajouter la tête :
+            // la tête peut entrer dans la cellule que la queue libère)
+            int tail = cells[(headIndex + length - 1) & mask];
+            occupancy.leave(PackedCoords.x(tail), PackedCoords.y(tail));
+            length--;
         }
+
+        // Ajouter la nouvelle tête
+        headIndex = (headIndex - 1) & mask;
+        cells[headIndex] = newHead;
+        length++;
+        occupancy.enter(PackedCoords.x(newHead), PackedCoords.y(newHead));
+        moveCount++;
+    }
+
+    /**
+     * Copier l'état d'un autre serpent du même plateau (instantané pour le rendu)
+     * Sans allocation tant que la capacité du buffer ne change pas.
+     */
+    public void copyFrom(Snake other) {
+        if (cells.length != other.cells.length) {
+            cells = new int[other.cells.length];
+        }
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+        mask = other.mask;
+        headIndex = other.headIndex;
+        length = other.length;
+        occupancy.copyFrom(other.occupancy);
+        currentDirection = other.currentDirection;
+        nextDirection = other.nextDirection;
+        growing = other.growing;
+        growthPending = other.growthPending;
+        moveCount = other.moveCount;
+        source = other.source;
     }
 
     /**
@@ -103,10 +162,16 @@ public class Snake {
      * Vérifier si le serpent se mange lui-même
      */
     public boolean checkSelfCollision() {
-        Point head = getHead();
-        // Commencer à partir du segment 1 (ignorer la tête)
-        for (int i = 1; i < body.size(); i++) {
-            if (head.equals(body.get(i))) {
+        int head = cells[headIndex];
+        int x = PackedCoords.x(head);
+        int y = PackedCoords.y(head);
+        if (occupancy.isInBounds(x, y)) {
+            // La cellule de la tête est partagée avec un autre segment
+            return occupancy.getCount(x, y) > 1;
+        }
+        // Hors plateau (après une collision avec un mur) : parcours du corps
+        for (int i = 1; i < length; i++) {
+            if (cells[(headIndex + i) & mask] == head) {
                 return true;
             }
         }
@@ -117,32 +182,43 @@ public class Snake {
      * Vérifier collision avec les murs
      */
     public boolean checkWallCollision(int boardWidth, int boardHeight) {
-        Point head = getHead();
-        return head.x < 0 || head.x >= boardWidth ||
-                head.y < 0 || head.y >= boardHeight;
+        int head = cells[headIndex];
+        int x = PackedCoords.x(head);
+        int y = PackedCoords.y(head);
+        return x < 0 || x >= boardWidth ||
+                y < 0 || y >= boardHeight;
     }
 
     /**
      * Vérifier si le serpent mange la nourriture
      */
     public boolean isEating(Point foodPosition) {
-        return getHead().equals(foodPosition);
+        return cells[headIndex] == PackedCoords.pack(foodPosition.x, foodPosition.y);
     }
 
     /**
      * Obtenir la tête du serpent
      */
     public Point getHead() {
-        return body.get(0);
+        int head = cells[headIndex];
+        return points.get(head);
     }
 
 
 
     /**
      * Obtenir le corps du serpent (copie défensive)
+     * Alloue une liste à chaque appel : à réserver aux appelants qui ont
+     * réellement besoin d'une copie. Pour un simple parcours, utiliser
+     * {@link #forEachSegment(SegmentVisitor)} ou l'accès indexé.
      */
     public List<Point> getBody() {
-        return new ArrayList<>(body);
+        List<Point> body = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            int cell = cells[(headIndex + i) & mask];
+            body.add(points.get(cell));
+        }
+        return body;
     }
 
 
@@ -150,15 +226,98 @@ public class Snake {
     /**
      * Obtenir la longueur du serpent
      */
+    @Override
     public int getLength() {
-        return body.size();
+        return length;
+    }
+
+    @Override
+    public int getSegmentX(int index) {
+        return PackedCoords.x(segmentAt(index));
+    }
+
+    @Override
+    public int getSegmentY(int index) {
+        return PackedCoords.y(segmentAt(index));
+    }
+
+    @Override
+    public void forEachSegment(SegmentVisitor visitor) {
+        for (int i = 0; i < length; i++) {
+            int cell = cells[(headIndex + i) & mask];
+            visitor.visit(i, PackedCoords.x(cell), PackedCoords.y(cell));
+        }
+    }
+
+    /**
+     * Cellule encodée du segment à l'index donné (0 = tête)
+     */
+    private int segmentAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Segment " + index + " hors du corps (longueur " + length + ")");
+        }
+        return cells[(headIndex + index) & mask];
     }
 
     /**
      * Vérifier si le serpent contient un point
      */
     public boolean contains(Point point) {
-        return body.contains(point);
+        if (occupancy.isInBounds(point.x, point.y)) {
+            return occupancy.isOccupied(point.x, point.y);
+        }
+        // Hors plateau : seule une tête sortie par un mur peut s'y trouver
+        int target = PackedCoords.pack(point.x, point.y);
+        for (int i = 0; i < length; i++) {
+            if (cells[(headIndex + i) & mask] == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Nombre de déplacements effectués depuis la création
+     */
+    public long getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Serpent de la simulation représenté : lui-même, ou celui copié par {@link #copyFrom(Snake)}
+     */
+    public Snake getSource() {
+        return source;
+    }
+
+    /**
+     * Vérifier si une cellule du plateau est libre (aucun segment)
+     */
+    public boolean isFree(int x, int y) {
+        return occupancy.isFree(x, y);
+    }
+
+    /**
+     * Obtenir la grille d'occupation du plateau
+     */
+    public OccupancyGrid getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Agrandir le buffer circulaire (capacité doublée, corps réaligné sur l'index 0)
+     */
+    private void ensureCapacity(int required) {
+        if (required <= cells.length) {
+            return;
+        }
+        int[] grown = new int[cells.length * 2];
+        for (int i = 0; i < length; i++) {
+            grown[i] = cells[(headIndex + i) & mask];
+        }
+        cells = grown;
+        mask = grown.length - 1;
+        headIndex = 0;
     }
 
     @Override
@@ -166,4 +325,4 @@ public class Snake {
         return String.format("Snake[length=%d, head=%s, direction=%s]",
                 getLength(), getHead(), currentDirection);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package org.example.snakegame.snake;
+
+/**
+ * Vue en lecture seule sur le corps du serpent
+ * Permet aux renderers et au code de placement de parcourir le corps sans le copier
+ */
+public interface SnakeBodyView {
+
+    /**
+     * Nombre de segments
+     */
+    int getLength();
+
+    /**
+     * Coordonnée X du segment à l'index donné (0 = tête)
+     */
+    int getSegmentX(int index);
+
+    /**
+     * Coordonnée Y du segment à l'index donné (0 = tête)
+     */
+    int getSegmentY(int index);
+
+    /**
+     * Parcourir tous les segments de la tête vers la queue
+     */
+    void forEachSegment(SegmentVisitor visitor);
+}
@@ -1,66 +1,80 @@
 package org.example.snakegame.snake;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
-import javafx.util.Duration;
 import org.example.snakegame.MusicController;
 import org.example.snakegame.ScoreManager;
+import org.example.snakegame.ScoreSnapshot;
 import org.example.snakegame.common.AbstractGameController;
 import org.example.snakegame.common.Direction;
+import org.example.snakegame.common.GameClock;
+import org.example.snakegame.common.GameRandom;
 import org.example.snakegame.common.GameResult;
 import org.example.snakegame.common.GameState;
-import org.example.snakegame.common.Point;
+import org.example.snakegame.common.RenderBackend;
+import org.example.snakegame.common.TripleBuffer;
 import org.example.snakegame.common.ValidationUtils;
+import org.example.snakegame.monitoring.ArcadeEvents;
+import org.example.snakegame.monitoring.CollisionEvent;
+import org.example.snakegame.monitoring.FoodSpawnEvent;
+import org.example.snakegame.monitoring.GameTickEvent;
 
 /**
  * Contrôleur du jeu Snake
  * Version refactorisée avec logging structuré, validation et SRP
  * Le rendu est délégué à SnakeRenderer (SRP)
  */
-public class SnakeController extends AbstractGameController {
+public class SnakeController extends AbstractGameController implements SnakeSimulation.Listener {
 
     private final MusicController musicController;
     // Constantes du jeu
     private static final int CELL_SIZE = 20;
     private static final int BOARD_WIDTH = 40;  // 800px / 20px
     private static final int BOARD_HEIGHT = 30; // 600px / 20px
-    private static final int INITIAL_GAME_SPEED = 120; // Réduit pour plus de fluidité
-    
-    // Constantes pour l'accélération du jeu
-    private static final int SPEED_INCREASE_THRESHOLD = 5; // Tous les 5 aliments
-    private static final int SPEED_DECREASE_AMOUNT = 8; // Réduction de vitesse en ms
-    private static final int MIN_GAME_SPEED = 60; // Vitesse minimale (= vitesse max)
 
     // État du jeu (gameState et gameLoop sont dans AbstractGameController)
     // GraphicsContext passé uniquement au renderer (SRP)
     
-    // Renderer dédié (SRP)
+    // Renderers dédiés (SRP) : vectoriel et pixels directs, F2 pour basculer
     private final SnakeRenderer renderer;
+    private final SnakePixelRenderer pixelRenderer;
+    private RenderBackend backend;
 
-    // Objets du jeu
-    private Snake snake;
-    private Food food;
+    // Règles du jeu, sans JavaFX (serpent, nourriture, score, vitesse)
+    private final SnakeSimulation simulation;
+    // Instantanés passés au rendu quand la simulation a son propre thread
+    private final TripleBuffer<SnakeFrame> frames;
+    // Notification d'interface retardée jusqu'à la publication du tick (thread de simulation)
+    private Runnable pendingNotification;
 
-    // Statistiques locales (pour la partie en cours)
-    private int currentScore;
+    // Score déjà notifié à l'interface
     private int previousScore;
-    private int gameSpeed;
-    private int foodEaten;
+    // Un tick a modifié l'état depuis le dernier rendu
+    private boolean frameDirty;
 
     // Référence au gestionnaire de scores global
     private final ScoreManager scoreManager;
 
     /**
      * Constructeur du contrôleur Snake
+     * @param gc Contexte graphique du canvas de jeu
+     * @param pixelView ImageView placée sous le canvas, utilisée par le rendu en pixels directs
      */
-    public SnakeController(GraphicsContext gc) {
+    public SnakeController(GraphicsContext gc, ImageView pixelView) {
         super(SnakeController.class);
         ValidationUtils.requireNonNull(gc, "graphicsContext");
-        this.renderer = new SnakeRenderer(gc, CELL_SIZE, BOARD_WIDTH, BOARD_HEIGHT);
+        ValidationUtils.requireNonNull(pixelView, "pixelView");
+        this.frames = new TripleBuffer<>(() -> new SnakeFrame(BOARD_WIDTH, BOARD_HEIGHT));
+        // Clignotement : temps de la frame affichée si la simulation tourne ailleurs
+        GameClock renderClock = simulationThreaded ? () -> frames.getReadBuffer().getNanoTime() : clock;
+        this.renderer = new SnakeRenderer(gc, CELL_SIZE, BOARD_WIDTH, BOARD_HEIGHT, renderClock);
+        this.pixelRenderer = new SnakePixelRenderer(gc, pixelView, renderer);
+        this.backend = RenderBackend.fromSystemProperty();
         this.scoreManager = ScoreManager.INSTANCE;
         this.musicController = MusicController.INSTANCE;
+        this.simulation = new SnakeSimulation(BOARD_WIDTH, BOARD_HEIGHT, GameRandom.split(), clock);
+        this.simulation.setListener(this);
         this.previousScore = 0;
 
         // Initialiser le jeu
@@ -72,18 +86,9 @@ public class SnakeController extends AbstractGameController {
      * Initialiser une nouvelle partie
      */
     private void initializeGame() {
-        // Créer le serpent au centre
-        Point startPosition = new Point(BOARD_WIDTH / 2, BOARD_HEIGHT / 2);
-        snake = new Snake(startPosition, Direction.RIGHT);
-
-        // Créer la nourriture
-        food = new Food();
-        food.generateNewPosition(BOARD_WIDTH, BOARD_HEIGHT, snake.getBody());
-
-        // Statistiques de partie
-        currentScore = 0;
-        gameSpeed = INITIAL_GAME_SPEED;
-        foodEaten = 0;
+        simulation.reset();
+        previousScore = 0;
+        updateGameSpeed(); // Revenir à la vitesse initiale
 
         // État initial
         updateGameState(GameState.WAITING_RESTART);
@@ -93,19 +98,10 @@ public class SnakeController extends AbstractGameController {
     }
 
     /**
-     * Configurer la boucle de jeu avec meilleure performance
+     * Configurer la boucle de jeu (un tick toutes les getGameSpeed() ms)
      */
     private void setupGameLoop() {
-        // Arrêter l'ancienne Timeline si elle existe pour éviter les fuites mémoire
-        if (gameLoop != null) {
-            gameLoop.stop();
-        }
-        
-        gameLoop = new Timeline(new KeyFrame(
-                Duration.millis(gameSpeed),
-                e -> updateGame()
-        ));
-        gameLoop.setCycleCount(Timeline.INDEFINITE);
+        gameLoop = createGameLoop(simulation.getGameSpeed(), this::updateGame, this::renderFrame);
     }
 
     /**
@@ -116,171 +112,234 @@ public class SnakeController extends AbstractGameController {
             return;
         }
 
-        // Déplacer le serpent
-        snake.move();
+        // Entrées du joueur, puis un seul échantillonnage de l'horloge par tick
+        drainInput();
+        clock.update();
 
-        // Vérifier les collisions
-        if (checkCollisions()) {
-            gameOver();
-            return;
-        }
-
-        // Vérifier si le serpent mange la nourriture
-        if (snake.isEating(food.getPosition())) {
-            eatFood();
+        switch (simulation.step()) {
+            case GAME_OVER -> {
+                recordCollision();
+                runOnUiThread(this::gameOver);
+                return;
+            }
+            case VICTORY -> {
+                if (simulationThreaded) {
+                    publishFrame(); // Dernier instantané, et score notifié avant la victoire
+                }
+                runOnUiThread(this::victory);
+                return;
+            }
+            default -> {
+                // La partie continue
+            }
         }
 
-        // Vérifier expiration de la nourriture spéciale
-        if (food.hasExpired()) {
-            logger.warn("Nourriture expirée, génération d'une nouvelle position");
-            food.generateNewPosition(BOARD_WIDTH, BOARD_HEIGHT, snake.getBody());
+        // Redessiner au prochain pulse
+        if (simulationThreaded) {
+            publishFrame();
+        } else {
+            frameDirty = true;
         }
-
-        // Redessiner le jeu
-        render();
     }
 
     /**
-     * Vérifier toutes les collisions
+     * Publier un instantané de la simulation pour le rendu
+     * La notification en attente part ensuite : l'interface trouve ce tick publié.
      */
-    private boolean checkCollisions() {
-        // Collision avec les murs
-        if (snake.checkWallCollision(BOARD_WIDTH, BOARD_HEIGHT)) {
-            return true;
+    private void publishFrame() {
+        frames.getWriteBuffer().capture(simulation, clock.nanoTime());
+        frames.publish();
+        if (pendingNotification != null) {
+            Runnable notification = pendingNotification;
+            pendingNotification = null;
+            runOnUiThread(notification);
         }
+    }
 
-        // Collision avec soi-même
-        if (snake.checkSelfCollision()) {
-            return true;
+    /**
+     * Récupérer (et dessiner) le dernier instantané publié avant de lire les statistiques
+     */
+    private void syncSnapshot() {
+        if (simulationThreaded && frames.update()) {
+            renderSnapshot(frames.getReadBuffer());
         }
+    }
 
-        return false;
+    /**
+     * Instantané lu par l'interface, ou null si la simulation tourne sur le thread JavaFX
+     */
+    private SnakeFrame displayedFrame() {
+        return simulationThreaded ? frames.getReadBuffer() : null;
     }
 
     /**
-     * Le serpent mange la nourriture
+     * Rendu d'un pulse d'affichage
+     * Le serpent se déplace case par case : pas d'interpolation, on ne redessine
+     * qu'après un tick ou pour faire clignoter une nourriture sur le point d'expirer.
      */
-    private void eatFood() {
-        // Obtenir les effets de la nourriture
-        int points = food.getValue();
-        int growthAmount = food.getGrowthAmount();
-        String effect = food.getSpecialEffect();
-
-        // Appliquer les effets
-        currentScore += points;
-        foodEaten++;
-
-        // Faire grandir le serpent
-        if (growthAmount == 1) {
-            snake.grow();
-        } else {
-            snake.grow(growthAmount);
+    private void renderFrame(double alpha) {
+        if (simulationThreaded) {
+            // Dessiner uniquement les nouveaux instantanés
+            if (frames.update()) {
+                renderSnapshot(frames.getReadBuffer());
+            }
+            return;
         }
+        clock.update();
+        if (frameDirty || simulation.getFood().shouldBlink()) {
+            frameDirty = false;
+            render();
+        }
+    }
 
-        // Appliquer les effets spéciaux
-        applySpecialEffect(food.getType());
-
-        // Afficher l'effet
-        if (!effect.isEmpty()) {
-            logger.info("Effet spécial activé: %s", effect);
+    /**
+     * Événement de simulation : le serpent a mangé
+     */
+    @Override
+    public void onFoodEaten(Food.FoodType eaten, int points, int growth) {
+        Snake snake = simulation.getSnake();
+        switch (eaten) {
+            case SPEED_UP -> logger.game("⚡", "Vitesse augmentée, délai=%dms", simulation.getGameSpeed());
+            case SLOW_DOWN -> logger.game("🐢", "Vitesse réduite, délai=%dms", simulation.getGameSpeed());
+            case MULTI_GROW -> logger.game("➕", "Le serpent grandit de %d segments", growth);
+            case SUPER_BONUS -> logger.game("🌟", "Super bonus: +%d points", points);
+            default -> {
+                // Pas de message particulier
+            }
         }
-        if (food.getType() == Food.FoodType.NORMAL) {
-            musicController.playSnakeEat();
+        // Son et interface sur le thread JavaFX
+        int currentScore = simulation.getScore();
+        Runnable notification = () -> {
+            syncSnapshot();
+            if (eaten == Food.FoodType.NORMAL) {
+                musicController.playSnakeEat();
+            } else {
+                musicController.playSnakeSpecialFood();
+            }
+
+            // Notifier l'interface du changement de score
+            notifyScoreUpdate(currentScore, currentScore - previousScore);
+            previousScore = currentScore;
+        };
+        if (simulationThreaded) {
+            pendingNotification = notification;
         } else {
-            musicController.playSnakeSpecialFood();
-        }
-        // Augmenter la vitesse tous les SPEED_INCREASE_THRESHOLD aliments normaux
-        if (food.getType() == Food.FoodType.NORMAL && 
-            foodEaten % SPEED_INCREASE_THRESHOLD == 0 && 
-            gameSpeed > MIN_GAME_SPEED) {
-            gameSpeed -= SPEED_DECREASE_AMOUNT;
-            logger.debug("Accélération: nouvelle vitesse %dms", gameSpeed);
-            updateGameSpeed();
+            notification.run();
         }
 
-        // Générer une nouvelle nourriture
-        food.generateNewPosition(BOARD_WIDTH, BOARD_HEIGHT, snake.getBody());
+        logger.info("Score: %d | Longueur: %d | Type: %s", currentScore, snake.getLength(), eaten);
+    }
 
-        // Notifier l'interface du changement de score
-        int delta = currentScore - previousScore;
-        notifyScoreUpdate(currentScore, delta);
-        previousScore = currentScore;
+    /**
+     * Événement de simulation : le délai entre deux ticks a changé
+     */
+    @Override
+    public void onSpeedChanged(int gameSpeed) {
+        logger.debug("Nouvelle vitesse %dms", gameSpeed);
+        updateGameSpeed();
+    }
 
-        logger.info("Score: %d | Longueur: %d | Type: %s", currentScore, snake.getLength(), food.getType());
+    /**
+     * Événement de simulation : la nourriture spéciale a expiré
+     */
+    @Override
+    public void onFoodExpired() {
+        logger.warn("Nourriture expirée, génération d'une nouvelle position");
     }
 
     /**
-     * Appliquer les effets spéciaux de la nourriture
+     * Événement de simulation : nouvelle nourriture sur le plateau
      */
-    private void applySpecialEffect(Food.FoodType type) {
-        switch (type) {
-            case SPEED_UP -> {
-                if (gameSpeed > 40) {
-                    gameSpeed -= 15;
-                    updateGameSpeed();
-                    logger.game("⚡", "Vitesse augmentée, délai=%dms", gameSpeed);
-                }
-            }
-            case SLOW_DOWN -> {
-                if (gameSpeed < 180) {
-                    gameSpeed += 25;
-                    updateGameSpeed();
-                    logger.game("🐢", "Vitesse réduite, délai=%dms", gameSpeed);
-                }
-            }
-            case MULTI_GROW -> {
-                logger.game("➕", "Le serpent grandit de %d segments", food.getGrowthAmount());
-            }
-            case SUPER_BONUS -> {
-                logger.game("🌟", "Super bonus: +%d points", food.getValue());
-            }
+    @Override
+    public void onFoodSpawned(boolean afterExpiry) {
+        if (ArcadeEvents.FOOD_SPAWN.isEnabled()) {
+            Food food = simulation.getFood();
+            Snake snake = simulation.getSnake();
+            FoodSpawnEvent event = new FoodSpawnEvent();
+            event.foodType = food.getType().name();
+            event.reason = afterExpiry ? "expiration" : "repas";
+            event.x = food.getPosition().getX();
+            event.y = food.getPosition().getY();
+            event.freeCells = snake.getOccupancy().getFreeCellIndex().size();
+            event.snakeLength = snake.getLength();
+            event.commit();
+        }
+    }
+
+    /**
+     * Événement JFR de la collision qui termine la partie (mur ou corps)
+     */
+    private void recordCollision() {
+        if (ArcadeEvents.COLLISION.isEnabled()) {
+            Snake snake = simulation.getSnake();
+            CollisionEvent event = new CollisionEvent();
+            event.game = getGameName();
+            event.kind = snake.checkWallCollision(BOARD_WIDTH, BOARD_HEIGHT) ? "mur" : "corps";
+            event.snakeLength = snake.getLength();
+            event.commit();
         }
     }
 
+    @Override
+    protected void describeTick(GameTickEvent event) {
+        event.snakeLength = simulation.getSnake().getLength();
+    }
+
     /**
      * Game Over - CORRIGÉ: Enregistrement dans le ScoreManager
      */
     private void gameOver() {
         musicController.playSnakeGameOver();
-        updateGameState(GameState.GAME_OVER);
+        logger.info("=== GAME OVER ===");
+        endGame(GameState.GAME_OVER);
+    }
+
+    /**
+     * Victoire - le serpent a rempli tout le plateau
+     */
+    private void victory() {
+        musicController.playLevelCompleted();
+        logger.game("🏆", "Plateau rempli, VICTOIRE !");
+        endGame(GameState.VICTORY);
+    }
+
+    /**
+     * Fin de partie commune (défaite ou victoire)
+     */
+    private void endGame(GameState finalState) {
+        updateGameState(finalState);
         gameLoop.stop();
 
-        // IMPORTANT: Enregistrer le score dans le gestionnaire global
-        scoreManager.recordSnakeScore(currentScore);
+        // IMPORTANT: Enregistrer la partie dans le gestionnaire global (historique et scores)
+        int currentScore = simulation.getScore();
+        GameResult.GameStatistics statistics = new GameResult.GameStatistics(
+                simulation.getSnake().getLength(),
+                simulation.getFoodEaten(),
+                String.format("Vitesse finale: %d", simulation.getGameSpeed())
+        );
+        GameResult result = new GameResult("Snake", currentScore, finalState == GameState.VICTORY, statistics);
+        scoreManager.recordResult(result);
 
         // Afficher les statistiques finales
-        logger.info("=== GAME OVER ===");
         logger.info("Score partie: %d", currentScore);
-        logger.info("Longueur finale: %d", snake.getLength());
-        logger.info("High Score global: %d", scoreManager.getSnakeHighScore());
-        logger.info("Score total: %d", scoreManager.getSnakeTotalScore());
-        logger.info("Parties jouées: %d", scoreManager.getSnakeGamesPlayed());
+        logger.info("Longueur finale: %d", simulation.getSnake().getLength());
+        ScoreSnapshot scores = scoreManager.getSnapshot();
+        logger.info("High Score global: %d", scores.getSnakeHighScore());
+        logger.info("Score total: %d", scores.getSnakeTotalScore());
+        logger.info("Parties jouées: %d", scores.getSnakeGamesPlayed());
 
         // Notifier l'interface avec GameResult
-        GameResult.GameStatistics statistics = new GameResult.GameStatistics(
-                snake.getLength(),
-                foodEaten,
-                String.format("Vitesse finale: %d", gameSpeed)
-        );
-        notifyGameOver(new GameResult("Snake", currentScore, false, statistics));
+        notifyGameOver(result);
 
         render();
     }
 
     /**
-     * Mettre à jour la vitesse du jeu (performance améliorée)
+     * Mettre à jour la vitesse du jeu (sans reconstruire la boucle)
      */
     private void updateGameSpeed() {
         if (gameLoop != null) {
-            boolean wasPlaying = (gameState == GameState.PLAYING);
-            gameLoop.stop();
-
-            // Recréer la timeline avec la nouvelle vitesse
-            setupGameLoop();
-
-            if (wasPlaying) {
-                gameLoop.play();
-            }
+            gameLoop.setTickMillis(simulation.getGameSpeed());
         }
     }
 
@@ -291,22 +350,10 @@ public class SnakeController extends AbstractGameController {
         logger.debug("Touche pressée: %s", keyCode);
 
         switch (keyCode) {
-            case UP -> {
-                boolean changed = snake.setDirection(Direction.UP);
-                if (changed) logger.debug("Direction changée vers: UP");
-            }
-            case DOWN -> {
-                boolean changed = snake.setDirection(Direction.DOWN);
-                if (changed) logger.debug("Direction changée vers: DOWN");
-            }
-            case LEFT -> {
-                boolean changed = snake.setDirection(Direction.LEFT);
-                if (changed) logger.debug("Direction changée vers: LEFT");
-            }
-            case RIGHT -> {
-                boolean changed = snake.setDirection(Direction.RIGHT);
-                if (changed) logger.debug("Direction changée vers: RIGHT");
-            }
+            case UP -> changeDirection(Direction.UP);
+            case DOWN -> changeDirection(Direction.DOWN);
+            case LEFT -> changeDirection(Direction.LEFT);
+            case RIGHT -> changeDirection(Direction.RIGHT);
             case SPACE -> {
                 togglePause();
                 logger.debug("Pause toggled - État: %s", gameState);
@@ -323,14 +370,26 @@ public class SnakeController extends AbstractGameController {
                     logger.info("Jeu démarré avec ENTRÉE");
                 }
             }
+            case F2 -> switchRenderBackend();
             default -> {
                 logger.debug("Touche ignorée: %s", keyCode);
             }
         }
     }
 
+    /**
+     * Changer la direction du serpent (appliquée au prochain tick en mode thread de simulation)
+     */
+    private void changeDirection(Direction direction) {
+        submitInput(() -> {
+            if (simulation.setDirection(direction)) {
+                logger.debug("Direction changée vers: %s", direction);
+            }
+        });
+    }
+
     @Override
-    protected String getGameName() {
+    public String getGameName() {
         return "Snake";
     }
 
@@ -344,23 +403,72 @@ public class SnakeController extends AbstractGameController {
         render(); // Rafraîchir l'affichage lors de la pause
     }
 
+    /**
+     * Basculer entre le rendu vectoriel et le rendu en pixels directs
+     */
+    private void switchRenderBackend() {
+        activeRenderer().deactivate();
+        backend = backend.next();
+        activeRenderer().invalidate();
+        render();
+        logger.game("🖼️", "Backend de rendu: %s", backend.getDisplayName());
+    }
+
+    private SnakeRenderBackend activeRenderer() {
+        return backend == RenderBackend.PIXEL_BUFFER ? pixelRenderer : renderer;
+    }
+
     /**
      * Rendu graphique principal - Délégation au renderer (SRP)
      */
     public void render() {
-        renderer.render(
-            snake, 
-            food, 
-            currentScore, 
+        if (simulationThreaded) {
+            // Boucle à l'arrêt : aucun tick en cours, capture directe depuis le thread JavaFX
+            if (gameLoop == null || !gameLoop.isRunning()) {
+                publishFrame();
+            }
+            frames.update();
+            renderSnapshot(frames.getReadBuffer());
+            return;
+        }
+        activeRenderer().render(
+            simulation.getSnake(), 
+            simulation.getFood(), 
+            simulation.getScore(), 
             scoreManager.getSnakeHighScore(), 
-            foodEaten, 
+            simulation.getFoodEaten(), 
+            gameState
+        );
+    }
+
+    /**
+     * Dessiner un instantané publié par le thread de simulation
+     */
+    private void renderSnapshot(SnakeFrame frame) {
+        activeRenderer().render(
+            frame.getSnake(),
+            frame.getFood(),
+            frame.getScore(),
+            scoreManager.getSnakeHighScore(),
+            frame.getFoodEaten(),
             gameState
         );
     }
 
     // Getters pour l'interface (utilisés par SnakeGame)
-    public int getScore() { return currentScore; }
+    // Avec un thread de simulation, valeurs du dernier instantané récupéré par le thread JavaFX
+    public int getScore() {
+        SnakeFrame frame = displayedFrame();
+        return frame != null ? frame.getScore() : simulation.getScore();
+    }
     public int getHighScore() { return scoreManager.getSnakeHighScore(); }
-    public int getSnakeLength() { return snake.getLength(); }
-    public int getGameSpeed() { return INITIAL_GAME_SPEED - gameSpeed + 50; }
+    public int getSnakeLength() {
+        SnakeFrame frame = displayedFrame();
+        return frame != null ? frame.getSnake().getLength() : simulation.getSnake().getLength();
+    }
+    public int getGameSpeed() {
+        SnakeFrame frame = displayedFrame();
+        int delay = frame != null ? frame.getGameSpeed() : simulation.getGameSpeed();
+        return SnakeSimulation.INITIAL_GAME_SPEED - delay + 50;
+    }
 }
\ No newline at end of file
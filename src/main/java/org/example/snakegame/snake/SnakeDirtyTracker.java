@@ -0,0 +1,122 @@
+package org.example.snakegame.snake;
+
+import org.example.snakegame.common.GameState;
+import org.example.snakegame.common.Point;
+
+/**
+ * Suivi des cellules modifiées entre deux rendus Snake
+ *
+ * Partagé par les backends de rendu : entre deux ticks seules la tête, les premiers
+ * segments du dégradé, la cellule libérée par la queue et la nourriture changent.
+ * Seules ces cellules sont redessinées ; un rendu complet est fait au premier affichage,
+ * à chaque changement d'état, de partie, ou si plusieurs ticks se sont écoulés.
+ */
+final class SnakeDirtyTracker {
+
+    // Au-delà de cet index, tous les segments ont la même couleur (alpha plancher 0.3)
+    static final int GRADIENT_SEGMENTS = 8;
+
+    /**
+     * Opérations de dessin fournies par le backend
+     */
+    interface CellPainter {
+        void clearCell(int x, int y);
+        void drawSegment(int index, int x, int y);
+        void drawFood(Food food);
+        void drawFull(Snake snake, Food food, GameState gameState);
+    }
+
+    // État du dernier rendu
+    private boolean incremental = true;
+    private boolean fullRepaintNeeded = true;
+    private Snake lastSnake;
+    private Food lastFood;
+    private GameState lastState;
+    private long lastMoveCount;
+    private int lastTailX;
+    private int lastTailY;
+    private Point lastFoodPosition;
+
+    /**
+     * Rendu : incrémental si possible, complet sinon
+     */
+    void render(Snake snake, Food food, GameState gameState, CellPainter painter) {
+        if (canRenderIncrementally(snake, food, gameState)) {
+            renderIncremental(snake, food, painter);
+        } else {
+            painter.drawFull(snake, food, gameState);
+        }
+
+        // Mémoriser l'état dessiné
+        lastSnake = snake.getSource();
+        lastFood = food.getSource();
+        lastState = gameState;
+        lastMoveCount = snake.getMoveCount();
+        lastTailX = snake.getSegmentX(snake.getLength() - 1);
+        lastTailY = snake.getSegmentY(snake.getLength() - 1);
+        lastFoodPosition = food.getPosition();
+        fullRepaintNeeded = false;
+    }
+
+    /**
+     * Le rendu incrémental n'est valide qu'en cours de partie, pour la même partie,
+     * et si au plus un tick s'est écoulé depuis le dernier rendu
+     */
+    private boolean canRenderIncrementally(Snake snake, Food food, GameState gameState) {
+        return incremental
+                && !fullRepaintNeeded
+                && gameState == GameState.PLAYING
+                && lastState == GameState.PLAYING
+                && snake.getSource() == lastSnake
+                && food.getSource() == lastFood
+                && snake.getMoveCount() - lastMoveCount <= 1;
+    }
+
+    /**
+     * Rendu incrémental : O(1) opérations de dessin quelle que soit la longueur du serpent
+     */
+    private void renderIncremental(Snake snake, Food food, CellPainter painter) {
+        boolean moved = snake.getMoveCount() != lastMoveCount;
+
+        // Cellule libérée par la queue
+        if (moved && (snake.getSegmentX(snake.getLength() - 1) != lastTailX
+                || snake.getSegmentY(snake.getLength() - 1) != lastTailY)
+                && snake.isFree(lastTailX, lastTailY)) {
+            painter.clearCell(lastTailX, lastTailY);
+        }
+
+        // Ancienne position de la nourriture (mangée ou expirée)
+        Point foodPosition = food.getPosition();
+        if (!foodPosition.equals(lastFoodPosition) && snake.isFree(lastFoodPosition.x, lastFoodPosition.y)) {
+            painter.clearCell(lastFoodPosition.x, lastFoodPosition.y);
+        }
+
+        // Tête et segments dont la couleur du dégradé a changé
+        if (moved) {
+            int repaint = Math.min(GRADIENT_SEGMENTS, snake.getLength());
+            for (int i = 0; i < repaint; i++) {
+                painter.drawSegment(i, snake.getSegmentX(i), snake.getSegmentY(i));
+            }
+        }
+
+        // Nourriture (nouvelle position, nouveau type ou clignotement)
+        painter.clearCell(foodPosition.x, foodPosition.y);
+        painter.drawFood(food);
+    }
+
+    void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+        this.fullRepaintNeeded = true;
+    }
+
+    boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Forcer un rendu complet au prochain appel
+     */
+    void invalidate() {
+        fullRepaintNeeded = true;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.snakegame.snake;
+
+import org.example.snakegame.common.GameClock;
+import org.example.snakegame.common.GameRandom;
+import org.example.snakegame.common.PointCache;
+
+/**
+ * Instantané d'une frame Snake, passé du thread de simulation au thread JavaFX
+ *
+ * Les instances sont réutilisées (triple tampon) : {@link #capture} recopie l'état de la
+ * simulation dans un serpent et une nourriture miroirs, sans allocation. La nourriture
+ * miroir lit le temps capturé avec la frame, pas l'horloge vivante de la simulation.
+ * Score, longueur et vitesse servent aussi à l'affichage des statistiques : toutes les
+ * valeurs lues par le thread JavaFX viennent ainsi du même tick.
+ */
+public final class SnakeFrame {
+
+    private final Snake snake;
+    private final Food food;
+    private int score;
+    private int foodEaten;
+    private int gameSpeed;
+    private long nanoTime;
+
+    /**
+     * Constructeur
+     * @param boardWidth Largeur du plateau en cellules
+     * @param boardHeight Hauteur du plateau en cellules
+     */
+    public SnakeFrame(int boardWidth, int boardHeight) {
+        this.snake = new Snake(PointCache.forBoard(boardWidth, boardHeight).get(0, 0), boardWidth, boardHeight);
+        GameClock frameClock = () -> nanoTime;
+        this.food = new Food(GameRandom.create(0), frameClock);
+    }
+
+    /**
+     * Recopier l'état courant de la simulation
+     * @param nanoTime Temps du jeu au moment de la capture
+     */
+    public void capture(SnakeSimulation simulation, long nanoTime) {
+        snake.copyFrom(simulation.getSnake());
+        food.copyFrom(simulation.getFood());
+        this.score = simulation.getScore();
+        this.foodEaten = simulation.getFoodEaten();
+        this.gameSpeed = simulation.getGameSpeed();
+        this.nanoTime = nanoTime;
+    }
+
+    public Snake getSnake() { return snake; }
+    public Food getFood() { return food; }
+    public int getScore() { return score; }
+    public int getFoodEaten() { return foodEaten; }
+    public int getGameSpeed() { return gameSpeed; }
+    public long getNanoTime() { return nanoTime; }
+}
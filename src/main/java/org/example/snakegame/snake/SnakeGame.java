@@ -9,6 +9,8 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
@@ -16,10 +18,12 @@ import javafx.stage.StageStyle;
 import org.example.snakegame.GameApplication;
 import org.example.snakegame.GameController;
 import org.example.snakegame.ScoreManager;
+import org.example.snakegame.ScoreSnapshot;
 import org.example.snakegame.common.Game;
 import org.example.snakegame.common.GameEventListener;
 import org.example.snakegame.common.GameResult;
 import org.example.snakegame.common.GameLogger;
+import org.example.snakegame.common.PerformanceOverlay;
 import org.example.snakegame.common.TitleBarController;
 
 import java.io.IOException;
@@ -37,6 +41,8 @@ public class SnakeGame extends Application implements Game {
 
     // Composants graphiques FXML
     @FXML private Canvas gameCanvas;
+    @FXML private ImageView pixelView;
+    @FXML private Canvas overlayCanvas;
     @FXML private Label scoreLabel;
     @FXML private Label lengthLabel;
     @FXML private Label speedLabel;
@@ -54,6 +60,9 @@ public class SnakeGame extends Application implements Game {
     // Contrôleur de la title bar
     private TitleBarController titleBarController;
 
+    // Panneau de performances (F3)
+    private PerformanceOverlay performanceOverlay;
+
     // Composants non-FXML
     private SnakeController snakeController;
     private Label statusLabel;
@@ -92,7 +101,9 @@ public class SnakeGame extends Application implements Game {
 
             // Créer le contrôleur Snake
             GraphicsContext gc = gameCanvas.getGraphicsContext2D();
-            snakeController = new SnakeController(gc);
+            snakeController = new SnakeController(gc, pixelView);
+            performanceOverlay = new PerformanceOverlay(overlayCanvas, snakeController.getTickHistogram(),
+                    snakeController::getSimulationThreadId);
 
             // Configurer les callbacks avec les nouvelles interfaces
             snakeController.setScoreUpdateListener((newScore, delta) -> updateScoreDisplay());
@@ -110,6 +121,11 @@ public class SnakeGame extends Application implements Game {
 
             // Gestion des touches - CORRIGÉ
             scene.setOnKeyPressed(event -> {
+                if (event.getCode() == KeyCode.F3) {
+                    performanceOverlay.toggle();
+                    event.consume(); // Touche de l'overlay : jamais transmise au contrôleur
+                    return;
+                }
                 snakeController.handleKeyPress(event.getCode());
                 updateScoreDisplay();
                 // IMPORTANT: Synchroniser le bouton après les touches
@@ -151,7 +167,10 @@ public class SnakeGame extends Application implements Game {
             titleBarController = new TitleBarController(stage, titleBar);
             titleBarController.setOnCloseCallback(() -> {
                 if (snakeController != null) {
-                    snakeController.stopGame();
+                    snakeController.dispose();
+                }
+                if (performanceOverlay != null) {
+                    performanceOverlay.hide();
                 }
             });
             logger.info("✅ Title bar initialisée pour Snake");
@@ -223,7 +242,10 @@ public class SnakeGame extends Application implements Game {
     protected void returnToMenu() {
         logger.info("Retour au menu depuis Snake Game");
         if (snakeController != null) {
-            snakeController.stopGame();
+            snakeController.dispose();
+        }
+        if (performanceOverlay != null) {
+            performanceOverlay.hide();
         }
         GameController.returnToMenu();
     }
@@ -253,11 +275,12 @@ public class SnakeGame extends Application implements Game {
             speedLabel.setText("VITESSE: " + snakeController.getGameSpeed());
             highScoreLabel.setText(String.format("HIGH SCORE: %04d", snakeController.getHighScore()));
 
-            // Statistiques totales
+            // Statistiques totales (un seul instantané, valeurs cohérentes)
+            ScoreSnapshot scores = scoreManager.getSnapshot();
             totalStatsLabel.setText(String.format("Parties: %d | Total: %d | Moyenne: %d",
-                    scoreManager.getSnakeGamesPlayed(),
-                    scoreManager.getSnakeTotalScore(),
-                    scoreManager.getSnakeAverageScore()));
+                    scores.getSnakeGamesPlayed(),
+                    scores.getSnakeTotalScore(),
+                    scores.getSnakeAverageScore()));
 
             // Synchroniser le bouton
             synchronizeStartButton();
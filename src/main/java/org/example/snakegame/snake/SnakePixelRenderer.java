@@ -0,0 +1,125 @@
+package org.example.snakegame.snake;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import org.example.snakegame.common.GameState;
+import org.example.snakegame.common.PixelSurface;
+import org.example.snakegame.common.PixelSurfaceView;
+import org.example.snakegame.common.Point;
+import org.example.snakegame.common.SpriteAtlas;
+import org.example.snakegame.common.ValidationUtils;
+
+/**
+ * Backend de rendu Snake en pixels directs
+ *
+ * Les cellules sont écrites dans un {@link PixelSurface} à partir des mêmes calques et
+ * sprites que {@link SnakeRenderer}, avec le même suivi des cellules modifiées. La
+ * surface est affichée par une {@link PixelSurfaceView} sous le canvas, qui ne reçoit
+ * que les cellules modifiées ; les messages d'état sont dessinés sur le canvas par le
+ * renderer vectoriel, uniquement quand l'état du jeu change.
+ */
+public class SnakePixelRenderer implements SnakeRenderBackend {
+
+    private final SnakeRenderer canvasRenderer;
+    private final SpriteAtlas atlas;
+    private final int cellSize;
+    private final int boardWidth;
+    private final int boardHeight;
+    private final PixelSurface surface;
+    private final PixelSurfaceView surfaceView;
+
+    // Message d'état déjà dessiné sur le canvas
+    private GameState drawnState;
+
+    private final SnakeDirtyTracker dirtyTracker = new SnakeDirtyTracker();
+    private final SegmentVisitor segmentPainter = this::drawSegment;
+    private final SnakeDirtyTracker.CellPainter cellPainter = new SnakeDirtyTracker.CellPainter() {
+        @Override
+        public void clearCell(int x, int y) {
+            SnakePixelRenderer.this.clearCell(x, y);
+        }
+
+        @Override
+        public void drawSegment(int index, int x, int y) {
+            SnakePixelRenderer.this.drawSegment(index, x, y);
+        }
+
+        @Override
+        public void drawFood(Food food) {
+            SnakePixelRenderer.this.drawFood(food);
+        }
+
+        @Override
+        public void drawFull(Snake snake, Food food, GameState gameState) {
+            surface.copyAll(canvasRenderer.getBackgroundLayer().getPixels());
+            snake.forEachSegment(segmentPainter);
+            SnakePixelRenderer.this.drawFood(food);
+        }
+    };
+
+    /**
+     * Constructeur
+     * @param gc Contexte graphique du canvas de jeu
+     * @param pixelView ImageView placée sous le canvas de jeu
+     * @param canvasRenderer Renderer vectoriel dont on partage les calques et sprites
+     */
+    public SnakePixelRenderer(GraphicsContext gc, ImageView pixelView, SnakeRenderer canvasRenderer) {
+        ValidationUtils.requireNonNull(gc, "graphicsContext");
+        this.canvasRenderer = ValidationUtils.requireNonNull(canvasRenderer, "canvasRenderer");
+        this.atlas = canvasRenderer.getAtlas();
+        this.cellSize = canvasRenderer.getCellSize();
+        this.boardWidth = canvasRenderer.getBoardWidth();
+        this.boardHeight = canvasRenderer.getBoardHeight();
+        this.surface = new PixelSurface(boardWidth * cellSize, boardHeight * cellSize);
+        this.surfaceView = new PixelSurfaceView(surface, pixelView, gc.getCanvas());
+    }
+
+    @Override
+    public void render(Snake snake, Food food, int score, int highScore, int foodEaten, GameState gameState) {
+        dirtyTracker.render(snake, food, gameState, cellPainter);
+
+        // Publier les cellules modifiées : l'ImageView sous le canvas ne retransfère qu'elles
+        surface.commit();
+        surfaceView.show();
+
+        // Message d'état en surimpression, redessiné seulement quand l'état change
+        if (gameState != drawnState) {
+            surfaceView.clearCanvas();
+            canvasRenderer.drawStatusMessage(gameState);
+            drawnState = gameState;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        dirtyTracker.invalidate();
+        drawnState = null;
+    }
+
+    @Override
+    public void deactivate() {
+        surfaceView.hide();
+        drawnState = null; // Le renderer vectoriel recouvre le canvas
+    }
+
+    private void clearCell(int x, int y) {
+        if (x < 0 || x >= boardWidth || y < 0 || y >= boardHeight) {
+            return;
+        }
+        surface.copyRegion(canvasRenderer.getBackgroundLayer().getPixels(),
+                x * cellSize, y * cellSize, cellSize, cellSize);
+    }
+
+    private void drawSegment(int index, int x, int y) {
+        blit(canvasRenderer.segmentSprite(index), x * cellSize, y * cellSize);
+    }
+
+    private void drawFood(Food food) {
+        Point pos = food.getPosition();
+        blit(canvasRenderer.foodSprite(food), pos.x * cellSize, pos.y * cellSize);
+    }
+
+    private void blit(SpriteAtlas.Sprite sprite, int x, int y) {
+        surface.blit(atlas.getPixels(sprite), sprite.width, sprite.height, x, y);
+    }
+}
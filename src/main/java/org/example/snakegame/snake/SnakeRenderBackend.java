@@ -0,0 +1,27 @@
+package org.example.snakegame.snake;
+
+import org.example.snakegame.common.GameState;
+
+/**
+ * Backend de rendu du jeu Snake
+ * Permet de choisir à l'exécution entre le rendu vectoriel (GraphicsContext)
+ * et le rendu en pixels directs (PixelBuffer)
+ */
+public interface SnakeRenderBackend {
+
+    /**
+     * Dessiner l'état courant du jeu
+     */
+    void render(Snake snake, Food food, int score, int highScore, int foodEaten, GameState gameState);
+
+    /**
+     * Forcer un rendu complet au prochain appel de render()
+     */
+    void invalidate();
+
+    /**
+     * Le backend cesse d'être affiché (bascule vers un autre backend)
+     */
+    default void deactivate() {
+    }
+}
@@ -2,11 +2,16 @@ package org.example.snakegame.snake;
 
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import org.example.snakegame.common.CachedLayer;
+import org.example.snakegame.common.GameClock;
 import org.example.snakegame.common.GameState;
 import org.example.snakegame.common.Point;
+import org.example.snakegame.common.SpriteAtlas;
 import org.example.snakegame.common.ValidationUtils;
 
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Renderer dédié au jeu Snake
@@ -18,14 +23,61 @@ import java.util.List;
  * - Rendu de la grille
  * - Rendu des messages d'état
  * - Rendu du score
+ *
+ * Mode incrémental (actif par défaut) : seules les cellules modifiées depuis le
+ * dernier rendu sont redessinées (voir {@link SnakeDirtyTracker}).
  */
-public class SnakeRenderer {
+public class SnakeRenderer implements SnakeRenderBackend {
     
     private final GraphicsContext gc;
     private final int cellSize;
     private final int boardWidth;
     private final int boardHeight;
-    
+    private final GameClock clock;
+
+    // Fond noir + grille, rastérisés une seule fois
+    private final CachedLayer background;
+
+    // Visiteur réutilisé pour dessiner le corps sans allocation par frame
+    private final SegmentVisitor segmentPainter = this::drawSegment;
+
+    private static final int GRADIENT_SEGMENTS = SnakeDirtyTracker.GRADIENT_SEGMENTS;
+    private static final Color GRID_COLOR = Color.rgb(30, 30, 30);
+    private static final Font SCORE_FONT = Font.font("Courier New", 18);
+    private static final Font STATUS_FONT = Font.font("Courier New", 16);
+    private static final Font MESSAGE_FONT = Font.font("Courier New", 24);
+    private static final int ATLAS_WIDTH = 512;
+
+    // Tuiles pré-rastérisées : dégradé du corps, nourritures (normale et clignotante)
+    private final SpriteAtlas atlas;
+    private final SpriteAtlas.Sprite[] segmentSprites;
+    private final Map<Food.FoodType, SpriteAtlas.Sprite> foodSprites;
+    private final Map<Food.FoodType, SpriteAtlas.Sprite> blinkingFoodSprites;
+
+    // Cellules modifiées entre deux rendus (mode incrémental)
+    private final SnakeDirtyTracker dirtyTracker = new SnakeDirtyTracker();
+    private final SnakeDirtyTracker.CellPainter cellPainter = new SnakeDirtyTracker.CellPainter() {
+        @Override
+        public void clearCell(int x, int y) {
+            SnakeRenderer.this.clearCell(x, y);
+        }
+
+        @Override
+        public void drawSegment(int index, int x, int y) {
+            SnakeRenderer.this.drawSegment(index, x, y);
+        }
+
+        @Override
+        public void drawFood(Food food) {
+            SnakeRenderer.this.drawFood(food);
+        }
+
+        @Override
+        public void drawFull(Snake snake, Food food, GameState gameState) {
+            renderFull(snake, food, gameState);
+        }
+    };
+
     /**
      * Constructeur
      * @param gc Contexte graphique pour le rendu
@@ -34,65 +86,133 @@ public class SnakeRenderer {
      * @param boardHeight Hauteur du plateau en cellules
      */
     public SnakeRenderer(GraphicsContext gc, int cellSize, int boardWidth, int boardHeight) {
+        this(gc, cellSize, boardWidth, boardHeight, GameClock.system());
+    }
+
+    /**
+     * Constructeur avec horloge du jeu (clignotement figé pendant la pause)
+     */
+    public SnakeRenderer(GraphicsContext gc, int cellSize, int boardWidth, int boardHeight, GameClock clock) {
+        this.clock = ValidationUtils.requireNonNull(clock, "clock");
         this.gc = ValidationUtils.requireNonNull(gc, "graphicsContext");
         this.cellSize = ValidationUtils.requirePositive(cellSize, "cellSize");
         this.boardWidth = ValidationUtils.requirePositive(boardWidth, "boardWidth");
         this.boardHeight = ValidationUtils.requirePositive(boardHeight, "boardHeight");
+        this.background = new CachedLayer(boardWidth * cellSize, boardHeight * cellSize, this::paintBackground);
+
+        // Atlas : une tuile par couleur du dégradé, deux par type de nourriture
+        this.atlas = new SpriteAtlas(ATLAS_WIDTH);
+        this.segmentSprites = new SpriteAtlas.Sprite[GRADIENT_SEGMENTS];
+        for (int i = 0; i < GRADIENT_SEGMENTS; i++) {
+            Color color = segmentColor(i);
+            segmentSprites[i] = atlas.add(cellSize - 1, cellSize - 1, target -> paintSegment(target, color));
+        }
+        this.foodSprites = new EnumMap<>(Food.FoodType.class);
+        this.blinkingFoodSprites = new EnumMap<>(Food.FoodType.class);
+        for (Food.FoodType type : Food.FoodType.values()) {
+            Color color = Color.web(type.getColor());
+            foodSprites.put(type, atlas.add(cellSize, cellSize, target -> paintFood(target, type, color)));
+            blinkingFoodSprites.put(type, atlas.add(cellSize, cellSize, target -> paintFood(target, type, Color.WHITE)));
+        }
     }
     
     /**
      * Effacer le canvas
      */
     public void clear() {
-        gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, boardWidth * cellSize, boardHeight * cellSize);
+        clear(gc);
+    }
+
+    private void clear(GraphicsContext target) {
+        target.setFill(Color.BLACK);
+        target.fillRect(0, 0, boardWidth * cellSize, boardHeight * cellSize);
     }
     
     /**
      * Dessiner la grille
      */
     public void drawGrid() {
-        gc.setStroke(Color.rgb(30, 30, 30));
-        gc.setLineWidth(0.5);
+        drawGrid(gc);
+    }
+
+    private void drawGrid(GraphicsContext target) {
+        target.setStroke(GRID_COLOR);
+        target.setLineWidth(0.5);
         
         // Lignes verticales
         for (int x = 0; x <= boardWidth; x++) {
-            gc.strokeLine(x * cellSize, 0, x * cellSize, boardHeight * cellSize);
+            target.strokeLine(x * cellSize, 0, x * cellSize, boardHeight * cellSize);
         }
         
         // Lignes horizontales
         for (int y = 0; y <= boardHeight; y++) {
-            gc.strokeLine(0, y * cellSize, boardWidth * cellSize, y * cellSize);
+            target.strokeLine(0, y * cellSize, boardWidth * cellSize, y * cellSize);
         }
     }
+
+    /**
+     * Contenu du calque de fond (fond noir + grille)
+     */
+    private void paintBackground(GraphicsContext target) {
+        clear(target);
+        drawGrid(target);
+    }
+
+    /**
+     * Redessiner le fond et les sprites à la prochaine frame (changement de thème)
+     */
+    public void invalidateBackground() {
+        background.invalidate();
+        atlas.invalidate();
+        dirtyTracker.invalidate();
+    }
     
     /**
      * Dessiner le serpent
-     * @param snakeBody Corps du serpent (liste de points)
+     * @param snakeBody Vue en lecture seule sur le corps du serpent
      */
-    public void drawSnake(List<Point> snakeBody) {
+    public void drawSnake(SnakeBodyView snakeBody) {
         ValidationUtils.requireNonNull(snakeBody, "snakeBody");
-        
-        for (int i = 0; i < snakeBody.size(); i++) {
-            Point segment = snakeBody.get(i);
-            
-            if (i == 0) {
-                // Tête du serpent (plus brillante)
-                gc.setFill(Color.LIME);
-            } else {
-                // Corps du serpent (dégradé)
-                double alpha = 1.0 - (i * 0.1);
-                alpha = Math.max(alpha, 0.3);
-                gc.setFill(Color.rgb(0, (int)(255 * alpha), 0));
-            }
-            
-            gc.fillRect(
-                    segment.x * cellSize,
-                    segment.y * cellSize,
-                    cellSize - 1,
-                    cellSize - 1
-            );
+        snakeBody.forEachSegment(segmentPainter);
+    }
+
+    /**
+     * Dessiner un segment du serpent
+     * @param index Position dans le corps (0 = tête)
+     * @param x Cellule X
+     * @param y Cellule Y
+     */
+    private void drawSegment(int index, int x, int y) {
+        atlas.draw(gc, segmentSprite(index), x * cellSize, y * cellSize);
+    }
+
+    /**
+     * Tuile d'un segment selon sa position dans le corps
+     */
+    SpriteAtlas.Sprite segmentSprite(int index) {
+        return segmentSprites[Math.min(index, GRADIENT_SEGMENTS - 1)];
+    }
+
+    /**
+     * Couleur d'un segment selon sa position dans le corps
+     */
+    private static Color segmentColor(int index) {
+        if (index == 0) {
+            // Tête du serpent (plus brillante)
+            return Color.LIME;
         }
+        // Corps du serpent (dégradé)
+        double alpha = 1.0 - (index * 0.1);
+        alpha = Math.max(alpha, 0.3);
+        return Color.rgb(0, (int)(255 * alpha), 0);
+    }
+
+    /**
+     * Dessin d'une tuile de segment (rastérisée dans l'atlas)
+     */
+    private void paintSegment(GraphicsContext target, Color color) {
+        target.setFill(color);
+        target.fillRect(0, 0, cellSize - 1, cellSize - 1);
     }
     
     /**
@@ -103,46 +223,39 @@ public class SnakeRenderer {
         ValidationUtils.requireNonNull(food, "food");
         
         Point pos = food.getPosition();
-        
-        // Couleur selon le type
-        String colorStr = food.getColor();
-        Color color = Color.web(colorStr);
-        
-        // Effet de clignotement si proche de l'expiration
+        atlas.draw(gc, foodSprite(food), pos.x * cellSize, pos.y * cellSize);
+    }
+
+    /**
+     * Tuile de la nourriture, avec l'effet de clignotement si proche de l'expiration
+     */
+    SpriteAtlas.Sprite foodSprite(Food food) {
+        Map<Food.FoodType, SpriteAtlas.Sprite> sprites = foodSprites;
         if (food.shouldBlink()) {
-            long time = System.currentTimeMillis();
+            long time = clock.millis();
             if ((time / 200) % 2 == 0) { // Clignote toutes les 200ms
-                color = Color.WHITE;
+                sprites = blinkingFoodSprites;
             }
         }
+        return sprites.get(food.getType());
+    }
+
+    /**
+     * Dessin d'une tuile de nourriture (rastérisée dans l'atlas)
+     */
+    private void paintFood(GraphicsContext target, Food.FoodType type, Color color) {
+        target.setFill(color);
         
-        gc.setFill(color);
-        
-        if (food.isSpecial()) {
+        if (type != Food.FoodType.NORMAL) {
             // Nourriture spéciale = forme différente + effet
-            gc.fillOval(
-                    pos.x * cellSize + 1,
-                    pos.y * cellSize + 1,
-                    cellSize - 2,
-                    cellSize - 2
-            );
+            target.fillOval(1, 1, cellSize - 2, cellSize - 2);
             
             // Effet de brillance pour nourriture spéciale
-            gc.setFill(Color.WHITE);
-            gc.fillOval(
-                    pos.x * cellSize + 4,
-                    pos.y * cellSize + 4,
-                    cellSize - 8,
-                    cellSize - 8
-            );
+            target.setFill(Color.WHITE);
+            target.fillOval(4, 4, cellSize - 8, cellSize - 8);
         } else {
             // Nourriture normale = carré simple
-            gc.fillRect(
-                    pos.x * cellSize + 2,
-                    pos.y * cellSize + 2,
-                    cellSize - 4,
-                    cellSize - 4
-            );
+            target.fillRect(2, 2, cellSize - 4, cellSize - 4);
         }
     }
     
@@ -154,7 +267,7 @@ public class SnakeRenderer {
      */
     public void drawScore(int score, int highScore, int foodEaten) {
         gc.setFill(Color.WHITE);
-        gc.setFont(javafx.scene.text.Font.font("Courier New", 18));
+        gc.setFont(SCORE_FONT);
         
         String scoreText = String.format("Score: %04d | High: %04d | Food: %d", 
                 score, highScore, foodEaten);
@@ -169,12 +282,13 @@ public class SnakeRenderer {
         ValidationUtils.requireNonNull(gameState, "gameState");
         
         gc.setFill(Color.WHITE);
-        gc.setFont(javafx.scene.text.Font.font("Courier New", 16));
+        gc.setFont(STATUS_FONT);
         
         String message = switch (gameState) {
             case WAITING_RESTART -> "Appuyez sur ENTRÉE pour commencer !";
             case PAUSED -> "JEU EN PAUSE - Appuyez sur ESPACE pour reprendre";
             case GAME_OVER -> "GAME OVER - Appuyez sur R pour rejouer";
+            case VICTORY -> "PLATEAU REMPLI, VICTOIRE ! - Appuyez sur R pour rejouer";
             default -> "";
         };
         
@@ -193,7 +307,7 @@ public class SnakeRenderer {
         ValidationUtils.requireNonNull(color, "color");
         
         gc.setFill(color);
-        gc.setFont(javafx.scene.text.Font.font("Courier New", 24));
+        gc.setFont(MESSAGE_FONT);
         
         // Calculer la position pour centrer le texte (approximatif)
         double x = (boardWidth * cellSize - message.length() * 12) / 2;
@@ -203,7 +317,36 @@ public class SnakeRenderer {
     }
     
     /**
-     * Rendu complet du jeu
+     * Redessiner une cellule vide à partir du calque de fond
+     */
+    private void clearCell(int x, int y) {
+        if (x < 0 || x >= boardWidth || y < 0 || y >= boardHeight) {
+            return;
+        }
+        background.restoreRegion(gc, x * cellSize, y * cellSize, cellSize, cellSize);
+    }
+
+    /**
+     * Activer ou désactiver le rendu incrémental
+     */
+    public void setIncremental(boolean incremental) {
+        dirtyTracker.setIncremental(incremental);
+    }
+
+    public boolean isIncremental() {
+        return dirtyTracker.isIncremental();
+    }
+
+    /**
+     * Forcer un rendu complet au prochain appel de render()
+     */
+    @Override
+    public void invalidate() {
+        dirtyTracker.invalidate();
+    }
+
+    /**
+     * Rendu du jeu : incrémental si possible, complet sinon
      * @param snake Serpent à dessiner
      * @param food Nourriture à dessiner
      * @param score Score actuel
@@ -211,21 +354,30 @@ public class SnakeRenderer {
      * @param foodEaten Nourriture mangée
      * @param gameState État du jeu
      */
+    @Override
     public void render(Snake snake, Food food, int score, int highScore, int foodEaten, GameState gameState) {
-        // Effacer le canvas
-        clear();
-        
-        // Dessiner la grille
-        drawGrid();
+        dirtyTracker.render(snake, food, gameState, cellPainter);
+    }
+
+    /**
+     * Rendu complet du jeu
+     */
+    private void renderFull(Snake snake, Food food, GameState gameState) {
+        // Fond et grille depuis le calque en cache
+        background.drawOn(gc);
         
         // Dessiner les éléments du jeu
-        drawSnake(snake.getBody());
+        drawSnake(snake);
         drawFood(food);
         
-        // Dessiner le score
-        // drawScore(score, highScore, foodEaten);
-        
         // Dessiner les messages d'état
         drawStatusMessage(gameState);
     }
+
+    // Accès pour le backend en pixels directs (mêmes calques et sprites)
+    CachedLayer getBackgroundLayer() { return background; }
+    SpriteAtlas getAtlas() { return atlas; }
+    int getCellSize() { return cellSize; }
+    int getBoardWidth() { return boardWidth; }
+    int getBoardHeight() { return boardHeight; }
 }
@@ -0,0 +1,316 @@
+package org.example.snakegame.snake;
+
+import org.example.snakegame.common.Direction;
+import org.example.snakegame.common.GameClock;
+import org.example.snakegame.common.GameRandom;
+import org.example.snakegame.common.PointCache;
+import org.example.snakegame.common.ValidationUtils;
+
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Moteur de simulation Snake, indépendant de JavaFX
+ *
+ * Contient toutes les règles du jeu : plateau, serpent, nourriture, score et vitesse.
+ * Aucune dépendance à l'affichage, au son ou à la sauvegarde : SnakeController
+ * n'est qu'un adaptateur qui pilote la simulation et réagit à ses événements.
+ * Permet de faire tourner des millions de ticks par seconde (tests de charge,
+ * bots, machines sans écran).
+ */
+public class SnakeSimulation {
+
+    // Constantes de vitesse (délai entre deux ticks, en ms)
+    public static final int INITIAL_GAME_SPEED = 120;
+    public static final int MIN_GAME_SPEED = 60; // Vitesse minimale (= vitesse max)
+    private static final int SPEED_INCREASE_THRESHOLD = 5; // Tous les 5 aliments
+    private static final int SPEED_DECREASE_AMOUNT = 8; // Réduction de vitesse en ms
+    private static final int SPEED_UP_LIMIT = 40;
+    private static final int SPEED_UP_AMOUNT = 15;
+    private static final int SLOW_DOWN_LIMIT = 180;
+    private static final int SLOW_DOWN_AMOUNT = 25;
+
+    /**
+     * Résultat d'un tick de simulation
+     */
+    public enum StepResult {
+        MOVED,      // Le serpent a avancé
+        ATE,        // Le serpent a mangé
+        GAME_OVER,  // Collision (mur ou soi-même)
+        VICTORY,    // Plateau rempli
+        FINISHED    // Partie déjà terminée, rien n'a été simulé
+    }
+
+    /**
+     * Écouteur des événements de la simulation (implémentations par défaut vides)
+     */
+    public interface Listener {
+
+        /**
+         * Le serpent a mangé une nourriture
+         * @param eaten Type de la nourriture mangée
+         * @param points Points gagnés
+         * @param growth Nombre de segments ajoutés
+         */
+        default void onFoodEaten(Food.FoodType eaten, int points, int growth) {
+            // Implémentation par défaut vide
+        }
+
+        /**
+         * Le délai entre deux ticks a changé
+         * @param gameSpeed Nouveau délai en ms
+         */
+        default void onSpeedChanged(int gameSpeed) {
+            // Implémentation par défaut vide
+        }
+
+        /**
+         * Une nourriture spéciale a expiré et a été replacée
+         */
+        default void onFoodExpired() {
+            // Implémentation par défaut vide
+        }
+
+        /**
+         * Une nouvelle nourriture a été placée
+         * @param afterExpiry true si elle remplace une nourriture expirée, false après un repas
+         */
+        default void onFoodSpawned(boolean afterExpiry) {
+            // Implémentation par défaut vide
+        }
+    }
+
+    private static final Listener NO_LISTENER = new Listener() { };
+
+    private final int boardWidth;
+    private final int boardHeight;
+    private final SplittableGenerator random;
+    private final GameClock clock;
+    private Listener listener = NO_LISTENER;
+
+    private Snake snake;
+    private Food food;
+    private int score;
+    private int foodEaten;
+    private int gameSpeed;
+    private long ticks;
+    private StepResult finalResult;
+
+    /**
+     * Constructeur
+     * @param boardWidth Largeur du plateau en cellules
+     * @param boardHeight Hauteur du plateau en cellules
+     */
+    public SnakeSimulation(int boardWidth, int boardHeight) {
+        this(boardWidth, boardHeight, GameRandom.split(), GameClock.system());
+    }
+
+    /**
+     * Constructeur avec générateur et horloge dédiés (parties reproductibles)
+     * @param boardWidth Largeur du plateau en cellules
+     * @param boardHeight Hauteur du plateau en cellules
+     * @param random Générateur de la simulation, divisé pour chaque nourriture
+     * @param clock Horloge du jeu (TickClock pour avancer plus vite que le temps réel)
+     */
+    public SnakeSimulation(int boardWidth, int boardHeight, SplittableGenerator random, GameClock clock) {
+        this.boardWidth = ValidationUtils.requirePositive(boardWidth, "boardWidth");
+        this.boardHeight = ValidationUtils.requirePositive(boardHeight, "boardHeight");
+        this.random = ValidationUtils.requireNonNull(random, "random");
+        this.clock = ValidationUtils.requireNonNull(clock, "clock");
+        reset();
+    }
+
+    /**
+     * Enregistrer l'écouteur des événements
+     */
+    public void setListener(Listener listener) {
+        this.listener = ValidationUtils.requireNonNull(listener, "listener");
+    }
+
+    /**
+     * Réinitialiser une nouvelle partie (serpent au centre, vers la droite)
+     */
+    public void reset() {
+        snake = new Snake(PointCache.forBoard(boardWidth, boardHeight).get(boardWidth / 2, boardHeight / 2),
+                Direction.RIGHT, boardWidth, boardHeight);
+        food = new Food(random.split(), clock);
+        food.generateNewPosition(snake.getOccupancy().getFreeCellIndex());
+
+        score = 0;
+        foodEaten = 0;
+        gameSpeed = INITIAL_GAME_SPEED;
+        ticks = 0;
+        finalResult = null;
+    }
+
+    /**
+     * Changer la direction du serpent (avec validation anti-demi-tour)
+     * @return true si la direction a été acceptée
+     */
+    public boolean setDirection(Direction direction) {
+        return snake.setDirection(direction);
+    }
+
+    /**
+     * Avancer d'un tick après avoir demandé une direction
+     * @param direction Direction souhaitée, ou null pour garder la direction courante
+     */
+    public StepResult step(Direction direction) {
+        if (direction != null) {
+            snake.setDirection(direction);
+        }
+        return step();
+    }
+
+    /**
+     * Avancer d'un tick dans la direction courante
+     */
+    public StepResult step() {
+        if (finalResult != null) {
+            return StepResult.FINISHED;
+        }
+        ticks++;
+
+        // Déplacer le serpent
+        snake.move();
+
+        // Vérifier les collisions
+        if (snake.checkWallCollision(boardWidth, boardHeight) || snake.checkSelfCollision()) {
+            return finish(StepResult.GAME_OVER);
+        }
+
+        // Vérifier si le serpent mange la nourriture
+        StepResult result = StepResult.MOVED;
+        if (snake.isEating(food.getPosition())) {
+            if (!eatFood()) {
+                return finish(StepResult.VICTORY);
+            }
+            result = StepResult.ATE;
+        }
+
+        // Vérifier expiration de la nourriture spéciale
+        if (food.hasExpired()) {
+            if (!food.generateNewPosition(snake.getOccupancy().getFreeCellIndex())) {
+                return finish(StepResult.VICTORY);
+            }
+            listener.onFoodExpired();
+            listener.onFoodSpawned(true);
+        }
+
+        return result;
+    }
+
+    /**
+     * Avancer de plusieurs ticks dans la direction courante
+     * S'arrête au premier tick qui termine la partie
+     * @param count Nombre de ticks demandés
+     * @return Nombre de ticks réellement simulés
+     */
+    public int stepN(int count) {
+        int executed = 0;
+        while (executed < count && finalResult == null) {
+            step();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * Le serpent mange la nourriture : score, croissance, effets et nouvelle nourriture
+     * @return false si le plateau est plein et qu'aucune nourriture ne peut réapparaître
+     */
+    private boolean eatFood() {
+        Food.FoodType eaten = food.getType();
+        int points = food.getValue();
+        int growthAmount = food.getGrowthAmount();
+
+        score += points;
+        foodEaten++;
+
+        // Faire grandir le serpent
+        if (growthAmount == 1) {
+            snake.grow();
+        } else {
+            snake.grow(growthAmount);
+        }
+
+        // Appliquer les effets spéciaux
+        applySpecialEffect(eaten);
+
+        // Augmenter la vitesse tous les SPEED_INCREASE_THRESHOLD aliments normaux
+        if (eaten == Food.FoodType.NORMAL &&
+                foodEaten % SPEED_INCREASE_THRESHOLD == 0 &&
+                gameSpeed > MIN_GAME_SPEED) {
+            changeSpeed(gameSpeed - SPEED_DECREASE_AMOUNT);
+        }
+
+        listener.onFoodEaten(eaten, points, growthAmount);
+
+        // Générer une nouvelle nourriture
+        if (!food.generateNewPosition(snake.getOccupancy().getFreeCellIndex())) {
+            return false;
+        }
+        listener.onFoodSpawned(false);
+        return true;
+    }
+
+    /**
+     * Appliquer les effets de vitesse de la nourriture
+     */
+    private void applySpecialEffect(Food.FoodType type) {
+        switch (type) {
+            case SPEED_UP -> {
+                if (gameSpeed > SPEED_UP_LIMIT) {
+                    changeSpeed(gameSpeed - SPEED_UP_AMOUNT);
+                }
+            }
+            case SLOW_DOWN -> {
+                if (gameSpeed < SLOW_DOWN_LIMIT) {
+                    changeSpeed(gameSpeed + SLOW_DOWN_AMOUNT);
+                }
+            }
+            default -> {
+                // Pas d'effet de vitesse
+            }
+        }
+    }
+
+    private void changeSpeed(int newSpeed) {
+        gameSpeed = newSpeed;
+        listener.onSpeedChanged(gameSpeed);
+    }
+
+    private StepResult finish(StepResult result) {
+        finalResult = result;
+        return result;
+    }
+
+    /**
+     * Vérifier si la partie est terminée (défaite ou victoire)
+     */
+    public boolean isFinished() {
+        return finalResult != null;
+    }
+
+    /**
+     * Vérifier si la partie s'est terminée par une victoire
+     */
+    public boolean isVictory() {
+        return finalResult == StepResult.VICTORY;
+    }
+
+    // Getters
+    public Snake getSnake() { return snake; }
+    public Food getFood() { return food; }
+    public int getScore() { return score; }
+    public int getFoodEaten() { return foodEaten; }
+    public int getGameSpeed() { return gameSpeed; }
+    public long getTicks() { return ticks; }
+    public int getBoardWidth() { return boardWidth; }
+    public int getBoardHeight() { return boardHeight; }
+
+    @Override
+    public String toString() {
+        return String.format("SnakeSimulation[ticks=%d, score=%d, length=%d, speed=%dms, finished=%s]",
+                ticks, score, snake.getLength(), gameSpeed, isFinished());
+    }
+}